@@ -0,0 +1,22 @@
+package com.accenture.holidays.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "holiday.http-cache")
+public class HolidayHttpCacheProperties {
+    /** Add strong ETags to JSON responses and answer matching If-None-Match requests with 304. */
+    private boolean etags = true;
+    /** Cache-Control max-age for responses about past years, whose calendars practically never change. */
+    private Duration pastYearMaxAge = Duration.ofDays(1);
+    /** Cache-Control max-age for responses about the current and future years, and for most-recent holidays. */
+    private Duration currentYearMaxAge = Duration.ofMinutes(5);
+
+}
@@ -0,0 +1,24 @@
+package com.accenture.holidays.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "holiday.usecase")
+public class HolidayUseCaseProperties {
+    /** Maximum number of per-country upstream fetches a single request runs at once. */
+    private int maxInFlight = 8;
+    /** Deadline for a single request; countries not fetched in time count as failed. */
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    /** Deadline for a whole batch; queries not finished in time report a timeout error. */
+    private Duration batchTimeout = Duration.ofSeconds(30);
+    /** How many years back the most-recent-holidays lookup walks before giving up. */
+    private int maxLookbackYears = 50;
+
+}
@@ -0,0 +1,24 @@
+package com.accenture.holidays.application.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class HttpCachingConfig {
+
+    /**
+     * Strong ETags computed from the response body, which only changes when one of the underlying
+     * calendars does. Streaming responses opt out, so they are never buffered.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "holiday.http-cache", name = "etags", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/holidays/*");
+        return registration;
+    }
+}
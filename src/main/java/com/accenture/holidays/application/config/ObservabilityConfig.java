@@ -0,0 +1,49 @@
+package com.accenture.holidays.application.config;
+
+import com.accenture.holidays.application.timing.RequestTimingAccessor;
+import com.accenture.holidays.application.timing.RequestTimingFilter;
+import com.accenture.holidays.application.usecase.HolidayUseCaseImpl;
+import com.accenture.holidays.application.usecase.ObservedHolidayUseCase;
+import com.accenture.holidays.domain.usecase.HolidayUseCase;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class ObservabilityConfig {
+
+    /**
+     * The use case as seen by the controller: timed and traced per method, between the
+     * {@code http.server.requests} observation of the request and the upstream fetches.
+     */
+    @Bean
+    @Primary
+    public HolidayUseCase observedHolidayUseCase(HolidayUseCaseImpl holidayUseCase,
+                                                 ObservationRegistry observationRegistry) {
+        return new ObservedHolidayUseCase(holidayUseCase, observationRegistry);
+    }
+
+    /**
+     * Registers the request timing with the global context registry once, so the context captured
+     * for a fan-out of upstream calls includes it.
+     */
+    @Bean
+    public RequestTimingAccessor requestTimingAccessor() {
+        RequestTimingAccessor accessor = new RequestTimingAccessor();
+        ContextRegistry.getInstance().registerThreadLocalAccessor(accessor);
+        return accessor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "holiday.request-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(RequestTimingProperties properties) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(properties));
+        registration.addUrlPatterns("/api/holidays/*");
+        return registration;
+    }
+}
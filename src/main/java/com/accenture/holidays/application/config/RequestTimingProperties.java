@@ -0,0 +1,24 @@
+package com.accenture.holidays.application.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "holiday.request-timing")
+public class RequestTimingProperties {
+    /** Break API requests down into upstream wait, executor queueing, JSON decoding and computation. */
+    private boolean enabled = true;
+    /** Requests taking at least this long are always logged, at WARN. */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    /** Fraction of the remaining requests logged at INFO, between 0 and 1. */
+    private double sampleRate = 0.01;
+    /** Return the breakdown in a Server-Timing response header on JSON responses. */
+    private boolean serverTiming = false;
+
+}
@@ -0,0 +1,47 @@
+package com.accenture.holidays.application.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * One query of a {@code POST /api/holidays/batch} request. Which fields are required depends on
+ * {@code type}, matching the parameters of the corresponding single-query endpoint; {@code shared}
+ * queries additionally need at least two country codes.
+ */
+public record BatchQueryRequest(
+        @NotNull(message = "Query type must be provided")
+        @Pattern(regexp = "^(most-recent|not-weekends|common|shared)$",
+                message = "Query type must be one of most-recent, not-weekends, common, shared")
+        String type,
+
+        @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters")
+        String countryCode,
+
+        @Min(value = 1, message = "Count must be at least 1")
+        Integer count,
+
+        @Min(value = 2000, message = "Year must be 2000 or later")
+        @Max(value = 2100, message = "Year must be 2100 or earlier")
+        Integer year,
+
+        @Size(min = 1, message = "At least one country code must be provided")
+        List<@NotNull(message = "Country code must be provided")
+        @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters") String> countryCodes,
+
+        @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters")
+        String countryCode1,
+
+        @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters")
+        String countryCode2,
+
+        @Min(value = 1, message = "Top must be at least 1")
+        Integer top,
+
+        @Min(value = 1, message = "At least one country must share a date")
+        Integer minCountries
+){}
@@ -0,0 +1,14 @@
+package com.accenture.holidays.application.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one batch query, in request order: the same {@code result} the single-query endpoint
+ * returns, or an {@code error} message when the query failed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchQueryResponse(
+        String type,
+        Object result,
+        String error
+){}
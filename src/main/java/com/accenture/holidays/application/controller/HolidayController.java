@@ -1,8 +1,16 @@
 package com.accenture.holidays.application.controller;
 
+import com.accenture.holidays.application.config.HolidayHttpCacheProperties;
 import com.accenture.holidays.domain.model.CommonHolidayInfo;
 import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.HolidayQuery;
+import com.accenture.holidays.domain.model.HolidayQueryResult;
+import com.accenture.holidays.domain.model.HolidayResult;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+import com.accenture.holidays.domain.model.WeekdayHolidayCount;
 import com.accenture.holidays.domain.usecase.HolidayUseCase;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,15 +18,32 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/holidays")
@@ -27,9 +52,14 @@ import java.util.Map;
 public class HolidayController {
 
     private final HolidayUseCase holidayUseCase;
+    private final ObjectMapper objectMapper;
+    private final HolidayHttpCacheProperties httpCacheProperties;
 
-    public HolidayController(HolidayUseCase holidayUseCase) {
+    public HolidayController(HolidayUseCase holidayUseCase, ObjectMapper objectMapper,
+                             HolidayHttpCacheProperties httpCacheProperties) {
         this.holidayUseCase = holidayUseCase;
+        this.objectMapper = objectMapper;
+        this.httpCacheProperties = httpCacheProperties;
     }
 
     @Operation(summary = "Get most recent holidays for a country",
@@ -41,7 +71,7 @@ public class HolidayController {
             @ApiResponse(responseCode = "400", description = "Invalid country code provided")
     })
     @GetMapping("/most-recent/{countryCode}/{count}")
-    public List<Holiday> getMostRecentHolidays(
+    public ResponseEntity<List<Holiday>> getMostRecentHolidays(
             @Parameter(description = "ISO 3166-1 alpha-2 country code (e.g., NL, GB, DE)")
             @PathVariable
             @Size(min = 2, max = 2, message = "Country code must be exactly 2 characters")
@@ -50,29 +80,147 @@ public class HolidayController {
 
             @Parameter(description = "Number of holidays")
             @PathVariable int count) {
-        return holidayUseCase.getMostRecentHolidays(countryCode, count);
+        return cachedUnlessPartial(holidayUseCase.getMostRecentHolidays(countryCode, count),
+                CacheControl.maxAge(httpCacheProperties.getCurrentYearMaxAge()).cachePublic());
+    }
+
+    @Operation(summary = "Stream most recent holidays for a country as NDJSON",
+            description = "Writes one holiday per line, newest first, as soon as each year has been inspected")
+    @GetMapping(value = "/most-recent/{countryCode}/{count}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMostRecentHolidays(
+            @Parameter(description = "ISO 3166-1 alpha-2 country code (e.g., NL, GB, DE)")
+            @PathVariable
+            @Size(min = 2, max = 2, message = "Country code must be exactly 2 characters")
+            @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters")
+            String countryCode,
+
+            @Parameter(description = "Number of holidays")
+            @PathVariable int count) {
+        return streamNdjson(sink -> holidayUseCase.getMostRecentHolidays(countryCode, count, sink::accept));
     }
 
     @Operation(summary = "Get holidays not falling on weekends",
-            description = "Returns the count of public holidays that don't fall on weekends for each country")
+            description = "Returns the count of public holidays that don't fall on weekends for each country, "
+                    + "highest count first, optionally limited to the top N countries")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved holiday counts"),
             @ApiResponse(responseCode = "400", description = "Invalid input parameters")
     })
     @GetMapping("/not-weekends")
-    public Map<String, Long> getHolidaysNotOnWeekends(
+    public ResponseEntity<Map<String, Long>> getHolidaysNotOnWeekends(
             @Parameter(description = "Year to check holidays for")
             @RequestParam
             @Min(value = 2000, message = "Year must be 2000 or later")
             @Max(value = 2100, message = "Year must be 2100 or earlier")
             int year,
 
+            @Parameter(description = "List of country codes to check")
+            @RequestParam
+            @Size(min = 1, message = "At least one country code must be provided")
+            List<@Size(min = 2, max = 2)
+            @Pattern(regexp = "^[A-Z]{2}$") String> countryCodes,
+
+            @Parameter(description = "Only return the countries with the highest counts")
+            @RequestParam(required = false)
+            @Min(value = 1, message = "Top must be at least 1")
+            Integer top) {
+        HolidayResult<Map<String, Long>> counts = top == null
+                ? holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes)
+                : holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes, top);
+        return cachedUnlessPartial(counts, cacheControlFor(year));
+    }
+
+    @Operation(summary = "Get holidays not falling on weekends for a range of years",
+            description = "Streams a JSON array with one {countryCode, year, count} entry per country and year, "
+                    + "in the order the counts become available")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully started streaming holiday counts",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WeekdayHolidayCount.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input parameters")
+    })
+    @GetMapping(value = "/not-weekends", params = {"fromYear", "toYear"})
+    public ResponseEntity<StreamingResponseBody> getHolidaysNotOnWeekendsForYears(
+            @Parameter(description = "First year of the range")
+            @RequestParam
+            @Min(value = 2000, message = "Year must be 2000 or later")
+            @Max(value = 2100, message = "Year must be 2100 or earlier")
+            int fromYear,
+
+            @Parameter(description = "Last year of the range, inclusive")
+            @RequestParam
+            @Min(value = 2000, message = "Year must be 2000 or later")
+            @Max(value = 2100, message = "Year must be 2100 or earlier")
+            int toYear,
+
             @Parameter(description = "List of country codes to check")
             @RequestParam
             @Size(min = 1, message = "At least one country code must be provided")
             List<@Size(min = 2, max = 2)
             @Pattern(regexp = "^[A-Z]{2}$") String> countryCodes) {
-        return holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes);
+        if (fromYear > toYear) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromYear must not be after toYear");
+        }
+
+        return streamJsonArray(sink -> holidayUseCase.getHolidaysNotOnWeekends(
+                fromYear, toYear, countryCodes, sink::accept));
+    }
+
+    @Operation(summary = "Stream holidays not falling on weekends as NDJSON",
+            description = "Writes one {countryCode, year, count} line per country, or per country and year when "
+                    + "fromYear and toYear are given, as soon as each count is available. With top, only the "
+                    + "countries with the highest counts are written, highest first, once all counts are known")
+    @GetMapping(value = "/not-weekends", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHolidaysNotOnWeekends(
+            @Parameter(description = "Year to check holidays for")
+            @RequestParam
+            @Min(value = 2000, message = "Year must be 2000 or later")
+            @Max(value = 2100, message = "Year must be 2100 or earlier")
+            int year,
+
+            @Parameter(description = "List of country codes to check")
+            @RequestParam
+            @Size(min = 1, message = "At least one country code must be provided")
+            List<@Size(min = 2, max = 2)
+            @Pattern(regexp = "^[A-Z]{2}$") String> countryCodes,
+
+            @Parameter(description = "Only return the countries with the highest counts")
+            @RequestParam(required = false)
+            @Min(value = 1, message = "Top must be at least 1")
+            Integer top) {
+        if (top == null) {
+            return streamNdjson(sink -> holidayUseCase.getHolidaysNotOnWeekends(year, year, countryCodes, sink::accept));
+        }
+        // Ranking needs every count, so the top entries are written in rank order once all are known
+        return streamNdjson(sink -> holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes, top).value()
+                .forEach((countryCode, count) -> sink.accept(new WeekdayHolidayCount(countryCode, year, count))));
+    }
+
+    @Operation(summary = "Stream holidays not falling on weekends for a range of years as NDJSON")
+    @GetMapping(value = "/not-weekends", params = {"fromYear", "toYear"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHolidaysNotOnWeekendsForYears(
+            @Parameter(description = "First year of the range")
+            @RequestParam
+            @Min(value = 2000, message = "Year must be 2000 or later")
+            @Max(value = 2100, message = "Year must be 2100 or earlier")
+            int fromYear,
+
+            @Parameter(description = "Last year of the range, inclusive")
+            @RequestParam
+            @Min(value = 2000, message = "Year must be 2000 or later")
+            @Max(value = 2100, message = "Year must be 2100 or earlier")
+            int toYear,
+
+            @Parameter(description = "List of country codes to check")
+            @RequestParam
+            @Size(min = 1, message = "At least one country code must be provided")
+            List<@Size(min = 2, max = 2)
+            @Pattern(regexp = "^[A-Z]{2}$") String> countryCodes) {
+        if (fromYear > toYear) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromYear must not be after toYear");
+        }
+        return streamNdjson(sink -> holidayUseCase.getHolidaysNotOnWeekends(
+                fromYear, toYear, countryCodes, sink::accept));
     }
 
     @Operation(summary = "Get common holidays between two countries",
@@ -82,7 +230,7 @@ public class HolidayController {
             @ApiResponse(responseCode = "400", description = "Invalid input parameters")
     })
     @GetMapping("/common")
-    public List<CommonHolidayInfo> getCommonHolidays(
+    public ResponseEntity<List<CommonHolidayInfo>> getCommonHolidays(
             @Parameter(description = "Year to check holidays for")
             @RequestParam
             @Min(value = 2000, message = "Year must be 2000 or later")
@@ -100,6 +248,192 @@ public class HolidayController {
             @Size(min = 2, max = 2, message = "Country code must be exactly 2 characters")
             @Pattern(regexp = "^[A-Z]{2}$", message = "Country code must be 2 uppercase letters")
             String countryCode2) {
-        return holidayUseCase.getCommonHolidays(year, countryCode1, countryCode2);
+        return ResponseEntity.ok()
+                .cacheControl(cacheControlFor(year))
+                .body(holidayUseCase.getCommonHolidays(year, countryCode1, countryCode2));
+    }
+
+    @Operation(summary = "Get holidays shared by several countries",
+            description = "Returns the dates that are a holiday in all of the given countries, or in at least "
+                    + "minCountries of them, with each country's local name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved shared holidays"),
+            @ApiResponse(responseCode = "400", description = "Invalid input parameters")
+    })
+    @GetMapping("/shared")
+    public ResponseEntity<List<SharedHolidayInfo>> getSharedHolidays(
+            @Parameter(description = "Year to check holidays for")
+            @RequestParam
+            @Min(value = 2000, message = "Year must be 2000 or later")
+            @Max(value = 2100, message = "Year must be 2100 or earlier")
+            int year,
+
+            @Parameter(description = "List of country codes to compare")
+            @RequestParam
+            @Size(min = 2, message = "At least two country codes must be provided")
+            List<@Size(min = 2, max = 2)
+            @Pattern(regexp = "^[A-Z]{2}$") String> countryCodes,
+
+            @Parameter(description = "Minimum number of countries sharing a date, defaults to all of them")
+            @RequestParam(required = false)
+            @Min(value = 1, message = "At least one country must share a date")
+            Integer minCountries) {
+        checkSharedQuery("", countryCodes, minCountries);
+        return ResponseEntity.ok()
+                .cacheControl(cacheControlFor(year))
+                .body(holidayUseCase.getSharedHolidays(year, countryCodes,
+                        minCountries != null ? minCountries : countryCodes.size()));
+    }
+
+    @Operation(summary = "Execute many holiday queries in one request",
+            description = "Accepts an array of most-recent, not-weekends, common and shared queries and returns their "
+                    + "results in the same order. Calendars needed by several queries are fetched only once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Executed the batch, failed queries carry an error"),
+            @ApiResponse(responseCode = "400", description = "Invalid or incomplete queries")
+    })
+    @PostMapping("/batch")
+    public List<BatchQueryResponse> executeBatch(
+            @RequestBody
+            @Size(min = 1, max = 1000, message = "A batch must contain between 1 and 1000 queries")
+            List<@Valid BatchQueryRequest> queries) {
+        List<HolidayQuery> holidayQueries = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            holidayQueries.add(toHolidayQuery(i, queries.get(i)));
+        }
+
+        List<HolidayQueryResult> results = holidayUseCase.executeBatch(holidayQueries);
+        List<BatchQueryResponse> responses = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            HolidayQueryResult result = results.get(i);
+            responses.add(new BatchQueryResponse(queries.get(i).type(), result.result(), result.error()));
+        }
+        return responses;
+    }
+
+    /**
+     * A partial result answers this request only: {@code no-store} keeps clients and shared caches from
+     * keeping the zeros or the short list as the answer, and the ETag filter skips such responses.
+     */
+    private static <T> ResponseEntity<T> cachedUnlessPartial(HolidayResult<T> result, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .cacheControl(result.partial() ? CacheControl.noStore() : cacheControl)
+                .body(result.value());
+    }
+
+    /**
+     * Public caching for a response about one year: long for past years, short for the current and
+     * future years whose calendars can still change.
+     */
+    private CacheControl cacheControlFor(int year) {
+        Duration maxAge = year < Year.now().getValue()
+                ? httpCacheProperties.getPastYearMaxAge()
+                : httpCacheProperties.getCurrentYearMaxAge();
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * Streams every value handed to the sink as an element of one JSON array.
+     */
+    private ResponseEntity<StreamingResponseBody> streamJsonArray(Consumer<Consumer<Object>> producer) {
+        disableContentCaching();
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                producer.accept(value -> writeAndFlush(generator, value, null));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Streams every value handed to the sink as one line of newline-delimited JSON.
+     */
+    private ResponseEntity<StreamingResponseBody> streamNdjson(Consumer<Consumer<Object>> producer) {
+        disableContentCaching();
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                producer.accept(value -> writeAndFlush(generator, value, "\n"));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Keeps the ETag filter from buffering a streamed response to hash it.
+     */
+    private static void disableContentCaching() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            ShallowEtagHeaderFilter.disableContentCaching(attributes.getRequest());
+        }
+    }
+
+    private static HolidayQuery toHolidayQuery(int index, BatchQueryRequest query) {
+        return switch (query.type()) {
+            case "most-recent" -> new HolidayQuery.MostRecent(
+                    required(index, query, "countryCode", query.countryCode()),
+                    required(index, query, "count", query.count()));
+            case "not-weekends" -> new HolidayQuery.NotOnWeekends(
+                    required(index, query, "year", query.year()),
+                    required(index, query, "countryCodes", query.countryCodes()),
+                    query.top());
+            case "common" -> new HolidayQuery.Common(
+                    required(index, query, "year", query.year()),
+                    required(index, query, "countryCode1", query.countryCode1()),
+                    required(index, query, "countryCode2", query.countryCode2()));
+            case "shared" -> {
+                List<String> countryCodes = required(index, query, "countryCodes", query.countryCodes());
+                if (countryCodes.size() < 2) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Query " + index + " of type shared requires at least two countryCodes");
+                }
+                checkSharedQuery("Query " + index + " of type shared: ", countryCodes, query.minCountries());
+                yield new HolidayQuery.Shared(
+                        required(index, query, "year", query.year()),
+                        countryCodes,
+                        query.minCountries() != null ? query.minCountries() : countryCodes.size());
+            }
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Query " + index + " has unsupported type " + query.type());
+        };
+    }
+
+    /**
+     * Rejects repeated countries, which would count one country twice, and a {@code minCountries}
+     * above the number of countries, which no date can satisfy.
+     */
+    private static void checkSharedQuery(String prefix, List<String> countryCodes, Integer minCountries) {
+        if (new HashSet<>(countryCodes).size() < countryCodes.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, prefix + "countryCodes must not repeat a country");
+        }
+        if (minCountries != null && minCountries > countryCodes.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    prefix + "minCountries must not exceed the number of countryCodes");
+        }
+    }
+
+    private static <T> T required(int index, BatchQueryRequest query, String field, T value) {
+        if (value == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Query " + index + " of type " + query.type() + " requires " + field);
+        }
+        return value;
+    }
+
+    /**
+     * Writes and flushes one value right away, so the client receives it without waiting for the rest.
+     */
+    private static void writeAndFlush(JsonGenerator generator, Object value, String suffix) {
+        try {
+            generator.writeObject(value);
+            if (suffix != null) {
+                generator.writeRaw(suffix);
+            }
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
\ No newline at end of file
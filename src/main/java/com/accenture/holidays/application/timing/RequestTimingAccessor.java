@@ -0,0 +1,33 @@
+package com.accenture.holidays.application.timing;
+
+import com.accenture.holidays.domain.timing.RequestTiming;
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Lets context propagation carry the {@link RequestTiming} of the request to the threads that
+ * continue its work, next to the current observation.
+ */
+public class RequestTimingAccessor implements ThreadLocalAccessor<RequestTiming> {
+
+    public static final String KEY = "holiday.request-timing";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public RequestTiming getValue() {
+        return RequestTiming.current();
+    }
+
+    @Override
+    public void setValue(RequestTiming timing) {
+        RequestTiming.set(timing);
+    }
+
+    @Override
+    public void setValue() {
+        RequestTiming.set(null);
+    }
+}
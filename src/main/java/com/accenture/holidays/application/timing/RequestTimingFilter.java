@@ -0,0 +1,95 @@
+package com.accenture.holidays.application.timing;
+
+import com.accenture.holidays.application.config.RequestTimingProperties;
+import com.accenture.holidays.domain.timing.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Binds a {@link RequestTiming} to every API request and logs its breakdown for slow requests and
+ * a sample of the others, as one {@code key=value} line on the {@code holiday.request-timing}
+ * logger.
+ * <p>
+ * {@code compute} covers the executor tasks of the request plus the time its own thread was not
+ * waiting for calendars, which includes serializing the response. Streaming responses are written
+ * on another thread after the handler returned and are not broken down.
+ */
+@Slf4j(topic = "holiday.request-timing")
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final RequestTimingProperties properties;
+
+    public RequestTimingFilter(RequestTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        RequestTiming.set(timing);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTiming.set(null);
+            if (!request.isAsyncStarted()) {
+                report(request, response, timing);
+            }
+        }
+    }
+
+    /**
+     * The breakdown as a {@code Server-Timing} header value, durations in milliseconds.
+     */
+    static String serverTiming(RequestTiming timing) {
+        long elapsed = timing.elapsedNanos();
+        return String.format(Locale.ROOT,
+                "total;dur=%.1f, upstream;dur=%.1f, queue;dur=%.1f, decode;dur=%.1f, compute;dur=%.1f",
+                millis(elapsed),
+                millis(timing.nanos(RequestTiming.Phase.UPSTREAM)),
+                millis(timing.nanos(RequestTiming.Phase.QUEUE)),
+                millis(timing.nanos(RequestTiming.Phase.DECODE)),
+                millis(compute(timing, elapsed)));
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, RequestTiming timing) {
+        long elapsed = timing.elapsedNanos();
+        boolean slow = elapsed >= properties.getSlowThreshold().toNanos();
+        if (!slow && ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            return;
+        }
+        String record = String.format(Locale.ROOT,
+                "request_timing method=%s path=%s query=\"%s\" status=%d slow=%b"
+                        + " total_ms=%.1f upstream_ms=%.1f queue_ms=%.1f decode_ms=%.1f compute_ms=%.1f",
+                request.getMethod(), request.getRequestURI(),
+                request.getQueryString() == null ? "" : request.getQueryString(),
+                response.getStatus(), slow,
+                millis(elapsed),
+                millis(timing.nanos(RequestTiming.Phase.UPSTREAM)),
+                millis(timing.nanos(RequestTiming.Phase.QUEUE)),
+                millis(timing.nanos(RequestTiming.Phase.DECODE)),
+                millis(compute(timing, elapsed)));
+        if (slow) {
+            log.warn(record);
+        } else {
+            log.info(record);
+        }
+    }
+
+    private static long compute(RequestTiming timing, long elapsed) {
+        return timing.nanos(RequestTiming.Phase.COMPUTE)
+                + Math.max(0, elapsed - timing.nanos(RequestTiming.Phase.UPSTREAM));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
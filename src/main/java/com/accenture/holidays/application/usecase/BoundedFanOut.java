@@ -0,0 +1,97 @@
+package com.accenture.holidays.application.usecase;
+
+import com.accenture.holidays.domain.timing.RequestTiming;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Starts one asynchronous task per key while keeping at most {@code maxInFlight} of them running.
+ * <p>
+ * Tasks are started in key iteration order; each completion starts the next pending key.
+ * Results whose future was already completed (e.g. cancelled after a deadline) are skipped.
+ * Keys after the first {@code maxInFlight} are started on the thread that completed an earlier
+ * task; the caller's thread-local context, such as the current observation and
+ * {@link RequestTiming}, is restored there so their upstream calls still belong to the caller's
+ * trace and timing. Which thread-locals that covers is decided by the accessors registered with
+ * the global context registry.
+ */
+final class BoundedFanOut {
+
+    private static final ContextSnapshotFactory CONTEXT = ContextSnapshotFactory.builder().build();
+
+    private BoundedFanOut() {
+    }
+
+    static <K, V> Map<K, CompletableFuture<V>> run(Collection<K> keys, int maxInFlight,
+                                                   Function<K, CompletableFuture<V>> task) {
+        Map<K, CompletableFuture<V>> results = new LinkedHashMap<>();
+        for (K key : keys) {
+            results.put(key, new CompletableFuture<>());
+        }
+
+        Iterator<Map.Entry<K, CompletableFuture<V>>> pending = results.entrySet().iterator();
+        ContextSnapshot context = CONTEXT.captureAll();
+        int lanes = Math.min(Math.max(1, maxInFlight), results.size());
+        for (int lane = 0; lane < lanes; lane++) {
+            startNext(pending, task, context);
+        }
+        return results;
+    }
+
+    private static <K, V> void startNext(Iterator<Map.Entry<K, CompletableFuture<V>>> pending,
+                                         Function<K, CompletableFuture<V>> task, ContextSnapshot context) {
+        while (true) {
+            Map.Entry<K, CompletableFuture<V>> next;
+            synchronized (pending) {
+                if (!pending.hasNext()) {
+                    return;
+                }
+                next = pending.next();
+            }
+            CompletableFuture<V> result = next.getValue();
+            if (result.isDone()) {
+                continue;
+            }
+
+            CompletableFuture<V> call = invoke(task, next.getKey());
+            if (call.isDone()) {
+                // Completed synchronously (e.g. served from cache): continue in this loop instead of recursing
+                propagate(call, result);
+                continue;
+            }
+            call.whenComplete((value, error) -> {
+                propagate(call, result);
+                try (ContextSnapshot.Scope scope = context.setThreadLocals()) {
+                    startNext(pending, task, context);
+                }
+            });
+            return;
+        }
+    }
+
+    private static <K, V> CompletableFuture<V> invoke(Function<K, CompletableFuture<V>> task, K key) {
+        try {
+            return task.apply(key);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <V> void propagate(CompletableFuture<V> call, CompletableFuture<V> result) {
+        try {
+            result.complete(call.join());
+        } catch (CompletionException e) {
+            result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
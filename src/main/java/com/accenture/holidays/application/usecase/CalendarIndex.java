@@ -0,0 +1,194 @@
+package com.accenture.holidays.application.usecase;
+
+import com.accenture.holidays.domain.model.CommonHolidayInfo;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Primitive index of one (year, country) calendar.
+ * <p>
+ * Holiday days of the year are kept as a 366-bit set, so intersecting two calendars is a bitwise
+ * AND and counting weekday holidays a popcount against the year's weekday mask. Entries are kept
+ * sorted by day together with their local names, which are only looked up for days that are part
+ * of a result. Several holidays on the same day, or dated outside the calendar year, still count
+ * individually towards the weekday total; the latter never take part in an intersection.
+ */
+final class CalendarIndex {
+
+    private static final int WORDS = 6;
+    private static final ConcurrentMap<Integer, long[]> WEEKDAY_MASKS = new ConcurrentHashMap<>();
+
+    private final int year;
+    private final long[] days = new long[WORDS];
+    /** Day of year (0-based) of every in-year entry, ascending. */
+    private final short[] entryDays;
+    private final String[] entryNames;
+    /** Weekday holidays not represented by a set bit: same-day duplicates and out-of-year dates. */
+    private final int extraWeekdayHolidays;
+
+    private CalendarIndex(int year, Holiday[] holidays) {
+        this.year = year;
+        Holiday[] sorted = holidays.clone();
+        Arrays.sort(sorted, Comparator.comparing(Holiday::getDate));
+
+        short[] entryDays = new short[sorted.length];
+        String[] entryNames = new String[sorted.length];
+        int entries = 0;
+        int extra = 0;
+        for (Holiday holiday : sorted) {
+            LocalDate date = holiday.getDate();
+            boolean weekday = !isWeekend(date.getDayOfWeek());
+            if (date.getYear() != year) {
+                extra += weekday ? 1 : 0;
+                continue;
+            }
+            int day = date.getDayOfYear() - 1;
+            long bit = 1L << day;
+            if ((days[day >>> 6] & bit) != 0) {
+                extra += weekday ? 1 : 0;
+            }
+            days[day >>> 6] |= bit;
+            entryDays[entries] = (short) day;
+            entryNames[entries] = holiday.getLocalName();
+            entries++;
+        }
+        this.entryDays = Arrays.copyOf(entryDays, entries);
+        this.entryNames = Arrays.copyOf(entryNames, entries);
+        this.extraWeekdayHolidays = extra;
+    }
+
+    static CalendarIndex of(int year, Holiday[] holidays) {
+        return new CalendarIndex(year, holidays);
+    }
+
+    /**
+     * Number of holidays that do not fall on a Saturday or Sunday.
+     */
+    long weekdayHolidays() {
+        long[] mask = WEEKDAY_MASKS.computeIfAbsent(year, CalendarIndex::weekdayMask);
+        long count = extraWeekdayHolidays;
+        for (int i = 0; i < WORDS; i++) {
+            count += Long.bitCount(days[i] & mask[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Days on which both calendars have a holiday, in date order, with the first local name of this
+     * calendar and every local name of the other one on that day.
+     */
+    List<CommonHolidayInfo> commonWith(CalendarIndex other) {
+        List<CommonHolidayInfo> common = new ArrayList<>();
+        int own = 0;
+        int theirs = 0;
+        for (int word = 0; word < WORDS; word++) {
+            long shared = days[word] & other.days[word];
+            while (shared != 0) {
+                int day = (word << 6) + Long.numberOfTrailingZeros(shared);
+                shared &= shared - 1;
+
+                while (entryDays[own] < day) {
+                    own++;
+                }
+                while (other.entryDays[theirs] < day) {
+                    theirs++;
+                }
+                LocalDate date = LocalDate.ofYearDay(year, day + 1);
+                for (; theirs < other.entryDays.length && other.entryDays[theirs] == day; theirs++) {
+                    common.add(new CommonHolidayInfo(date, entryNames[own], other.entryNames[theirs]));
+                }
+            }
+        }
+        return common;
+    }
+
+    /**
+     * Days on which at least {@code minCountries} of the calendars have a holiday, in date order,
+     * with the first local name of every country celebrating it. All calendars are scanned once,
+     * word by word; when every country is required the candidates are a plain bitwise AND.
+     *
+     * @param calendars indexes of the same year by country code, in the order names are reported
+     */
+    static List<SharedHolidayInfo> shared(Map<String, CalendarIndex> calendars, int minCountries) {
+        int count = calendars.size();
+        if (count == 0 || minCountries > count) {
+            return List.of();
+        }
+        String[] countryCodes = calendars.keySet().toArray(String[]::new);
+        CalendarIndex[] indexes = calendars.values().toArray(CalendarIndex[]::new);
+        int year = indexes[0].year;
+        int[] cursors = new int[count];
+
+        List<SharedHolidayInfo> shared = new ArrayList<>();
+        for (int word = 0; word < WORDS; word++) {
+            long any = 0;
+            long all = -1L;
+            for (CalendarIndex index : indexes) {
+                any |= index.days[word];
+                all &= index.days[word];
+            }
+
+            long candidates = minCountries == count ? all : any;
+            while (candidates != 0) {
+                long bit = Long.lowestOneBit(candidates);
+                candidates &= candidates - 1;
+                if (minCountries < count && celebrating(indexes, word, bit) < minCountries) {
+                    continue;
+                }
+
+                int day = (word << 6) + Long.numberOfTrailingZeros(bit);
+                Map<String, String> localNames = new LinkedHashMap<>();
+                for (int i = 0; i < count; i++) {
+                    CalendarIndex index = indexes[i];
+                    if ((index.days[word] & bit) != 0) {
+                        while (index.entryDays[cursors[i]] < day) {
+                            cursors[i]++;
+                        }
+                        localNames.put(countryCodes[i], index.entryNames[cursors[i]]);
+                    }
+                }
+                shared.add(new SharedHolidayInfo(LocalDate.ofYearDay(year, day + 1), localNames));
+            }
+        }
+        return shared;
+    }
+
+    private static int celebrating(CalendarIndex[] indexes, int word, long bit) {
+        int celebrating = 0;
+        for (CalendarIndex index : indexes) {
+            if ((index.days[word] & bit) != 0) {
+                celebrating++;
+            }
+        }
+        return celebrating;
+    }
+
+    private static long[] weekdayMask(int year) {
+        long[] mask = new long[WORDS];
+        int length = Year.of(year).length();
+        DayOfWeek dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek();
+        for (int day = 0; day < length; day++) {
+            if (!isWeekend(dayOfWeek)) {
+                mask[day >>> 6] |= 1L << day;
+            }
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        return mask;
+    }
+
+    private static boolean isWeekend(DayOfWeek dayOfWeek) {
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+}
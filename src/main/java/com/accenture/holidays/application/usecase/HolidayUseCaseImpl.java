@@ -1,78 +1,283 @@
 package com.accenture.holidays.application.usecase;
 
+import com.accenture.holidays.application.config.HolidayUseCaseProperties;
 import com.accenture.holidays.domain.gateway.HolidayApiClient;
 import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.model.CalendarKey;
 import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.HolidayQuery;
+import com.accenture.holidays.domain.model.HolidayQueryResult;
+import com.accenture.holidays.domain.model.HolidayResult;
 import com.accenture.holidays.domain.model.CommonHolidayInfo;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+import com.accenture.holidays.domain.model.WeekdayHolidayCount;
+import com.accenture.holidays.domain.timing.RequestTiming;
 import com.accenture.holidays.domain.usecase.HolidayUseCase;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.DayOfWeek;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 public class HolidayUseCaseImpl implements HolidayUseCase {
 
+    /** Most weekday holidays first, ties in request order. */
+    private static final Comparator<RankedCount> BY_RANK =
+            Comparator.comparingLong(RankedCount::count).reversed().thenComparingInt(RankedCount::position);
+    private static final String BATCH_TIMED_OUT = "Timed out: the batch deadline passed before the query finished";
+
     private final HolidayApiClient apiClient;
     private final Executor asyncExecutor;
+    private final HolidayUseCaseProperties properties;
+    /**
+     * Indexes of the calendars currently held by the gateway, keyed by array identity. The cached
+     * gateway hands out the same array on every hit, and weak keys drop an index together with it.
+     */
+    private final Cache<Holiday[], CalendarIndex> indexes;
+    /** End of the batch whose queries this instance runs, empty outside a batch. */
+    private final OptionalLong batchDeadline;
+
+    @Autowired
+    public HolidayUseCaseImpl(HolidayApiClient apiClient,
+                              @Qualifier("holidayExecutor") Executor asyncExecutor,
+                              HolidayUseCaseProperties properties) {
+        this(apiClient, asyncExecutor, properties, Caffeine.newBuilder().weakKeys().build(), OptionalLong.empty());
+    }
 
-    public HolidayUseCaseImpl(HolidayApiClient apiClient) {
+    private HolidayUseCaseImpl(HolidayApiClient apiClient, Executor asyncExecutor,
+                               HolidayUseCaseProperties properties, Cache<Holiday[], CalendarIndex> indexes,
+                               OptionalLong batchDeadline) {
         this.apiClient = apiClient;
-        this.asyncExecutor = ForkJoinPool.commonPool();
+        this.asyncExecutor = asyncExecutor;
+        this.properties = properties;
+        this.indexes = indexes;
+        this.batchDeadline = batchDeadline;
     }
 
     @Override
-    public List<Holiday> getMostRecentHolidays(String countryCode, int count) {
-        List<Holiday> pastHolidays = new ArrayList<>();
+    public HolidayResult<List<Holiday>> getMostRecentHolidays(String countryCode, int count) {
+        List<Holiday> mostRecent = new ArrayList<>(Math.max(0, Math.min(count, 1024)));
+        return passOnMostRecent(countryCode, count, mostRecent::add)
+                ? HolidayResult.complete(mostRecent)
+                : HolidayResult.partial(mostRecent);
+    }
+
+    @Override
+    public void getMostRecentHolidays(String countryCode, int count, Consumer<Holiday> sink) {
+        passOnMostRecent(countryCode, count, sink);
+    }
+
+    /**
+     * Walks back from the current year, prefetching as many years concurrently as the holidays seen
+     * so far suggest are still needed. Years are consumed newest first, so a year's holidays are
+     * passed on as soon as it has been inspected; only the most recent ones still missing are kept,
+     * in a bounded min-heap. The walk stops as soon as {@code count} holidays were passed on, an
+     * upstream call fails, or {@code maxLookbackYears} years have been inspected. Prefetched years the
+     * walk does not get to are left to complete, so the gateway still caches them.
+     *
+     * @return {@code false} when a failing or late upstream call cut the walk short
+     */
+    private boolean passOnMostRecent(String countryCode, int count, Consumer<Holiday> sink) {
+        if (count <= 0) {
+            return true;
+        }
+
         LocalDate currentDate = LocalDate.now();
-        int currentYear = currentDate.getYear();
+        int oldestYear = currentDate.getYear() - properties.getMaxLookbackYears();
+        long deadline = deadline();
 
-        for (int yearOffset = 0; pastHolidays.size() < count; yearOffset++) {
-            int year = currentYear - yearOffset;
-            try {
-                Holiday[] holidays = apiClient.fetchHolidaysByCountry(year, countryCode);
-                if (holidays != null) {
-                    Arrays.stream(holidays)
-                            .filter(h -> h.getDate().isBefore(currentDate))
-                            .sorted(Comparator.comparing(Holiday::getDate).reversed())
-                            .forEach(pastHolidays::add);
+        Comparator<Holiday> byDate = Comparator.comparing(Holiday::getDate);
+        int nextYear = currentDate.getYear();
+        int yearsPerBatch = 1;
+        int inspectedYears = 0;
+        long pastHolidays = 0;
+        int passedOn = 0;
+
+        while (passedOn < count && nextYear > oldestYear) {
+            int batchSize = Math.min(yearsPerBatch, nextYear - oldestYear);
+            List<CompletableFuture<Holiday[]>> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(apiClient.fetchHolidaysByCountryAsync(nextYear - i, countryCode));
+            }
+
+            for (int i = 0; i < batchSize && passedOn < count; i++) {
+                Holiday[] holidays;
+                try {
+                    holidays = awaitHolidays(batch.get(i), deadline);
+                } catch (HolidayApiException e) {
+                    log.error("Error occurred while calling holiday API: {}", e.getMessage());
+                    return false;
                 }
-            } catch (HolidayApiException e) {
-                log.error("Error occurred while calling holiday API: {}", e.getMessage());
-                break;
+                inspectedYears++;
+                if (holidays == null) {
+                    continue;
+                }
+
+                int missing = count - passedOn;
+                PriorityQueue<Holiday> mostRecent =
+                        new PriorityQueue<>(Math.min(missing, holidays.length) + 1, byDate);
+                for (Holiday holiday : holidays) {
+                    if (holiday.getDate().isBefore(currentDate)) {
+                        pastHolidays++;
+                        offerBounded(mostRecent, holiday, missing, byDate);
+                    }
+                }
+                Holiday[] newestFirst = new Holiday[mostRecent.size()];
+                for (int j = newestFirst.length - 1; j >= 0; j--) {
+                    newestFirst[j] = mostRecent.poll();
+                }
+                // Gateway calendars are shared and read-only, callers get holidays of their own
+                for (Holiday holiday : newestFirst) {
+                    sink.accept(holiday.copy());
+                }
+                passedOn += newestFirst.length;
             }
+            nextYear -= batchSize;
+
+            int missing = count - passedOn;
+            long estimate = pastHolidays == 0
+                    ? 2L * yearsPerBatch
+                    : (long) Math.ceil(missing * (double) inspectedYears / pastHolidays);
+            yearsPerBatch = (int) Math.max(1, Math.min(estimate, properties.getMaxInFlight()));
         }
+        return true;
+    }
 
-        return pastHolidays.stream()
-                .sorted(Comparator.comparing(Holiday::getDate).reversed())
-                .limit(count)
-                .toList();
+    @Override
+    public HolidayResult<Map<String, Long>> getHolidaysNotOnWeekends(int year, List<String> countryCodes) {
+        return getHolidaysNotOnWeekends(year, countryCodes, Integer.MAX_VALUE);
     }
 
+    /**
+     * Ranks countries by their number of weekday holidays, highest first and ties in request order.
+     * Counts are ranked as they complete, in a min-heap bounded to {@code top} entries, so only the
+     * entries that make the cut are ever sorted. Countries that fail or are not counted before the
+     * per-request deadline rank with 0, and the ranking is partial.
+     */
     @Override
-    public Map<String, Long> getHolidaysNotOnWeekends(int year, List<String> countryCodes) {
-        return countryCodes.stream()
-                .collect(Collectors.toMap(
-                    countryCode -> countryCode,
-                    countryCode -> countWeekdayHolidays(year, countryCode)
-                ));
+    public HolidayResult<Map<String, Long>> getHolidaysNotOnWeekends(int year, List<String> countryCodes, int top) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (top <= 0) {
+            return HolidayResult.complete(result);
+        }
+
+        long deadline = deadline();
+        Map<String, CompletableFuture<Long>> counts = BoundedFanOut.run(
+                new LinkedHashSet<>(countryCodes),
+                properties.getMaxInFlight(),
+                countryCode -> countWeekdayHolidays(year, countryCode));
+        BlockingQueue<String> completed = new LinkedBlockingQueue<>();
+        counts.forEach((countryCode, count) -> count.whenComplete((value, error) -> completed.add(countryCode)));
+
+        Map<String, Integer> positions = new HashMap<>();
+        counts.keySet().forEach(countryCode -> positions.put(countryCode, positions.size()));
+        int limit = Math.min(top, counts.size());
+        PriorityQueue<RankedCount> ranking = new PriorityQueue<>(limit + 1, BY_RANK.reversed());
+        Set<String> pending = new LinkedHashSet<>(counts.keySet());
+        boolean partial = false;
+        try {
+            while (!pending.isEmpty()) {
+                String countryCode = awaitCompletion(completed, Math.max(0, deadline - System.nanoTime()));
+                if (countryCode == null) {
+                    break;
+                }
+                if (pending.remove(countryCode)) {
+                    Long count = countOrNull(year, countryCode, counts.get(countryCode));
+                    partial |= count == null;
+                    offerBounded(ranking, new RankedCount(countryCode, positions.get(countryCode),
+                            count == null ? 0L : count), limit, BY_RANK.reversed());
+                }
+            }
+            for (String countryCode : pending) {
+                Long count = countOrNull(year, countryCode, counts.get(countryCode));
+                partial |= count == null;
+                offerBounded(ranking, new RankedCount(countryCode, positions.get(countryCode),
+                        count == null ? 0L : count), limit, BY_RANK.reversed());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HolidayApiException("Interrupted while waiting for holidays", e);
+        } finally {
+            counts.values().forEach(count -> count.cancel(false));
+        }
+
+        RankedCount[] ranked = new RankedCount[ranking.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = ranking.poll();
+        }
+        for (RankedCount rankedCount : ranked) {
+            result.put(rankedCount.countryCode(), rankedCount.count());
+        }
+        return partial ? HolidayResult.partial(result) : HolidayResult.complete(result);
     }
 
+    /**
+     * Schedules the whole (year, country) grid with a bounded number of fetches in flight and passes
+     * counts on as they complete, so nothing but the pending futures is held in memory. The
+     * per-request deadline applies between two consecutive counts rather than to the whole grid:
+     * once no count arrives in time, everything still pending is reported as 0.
+     */
     @Override
-    public List<CommonHolidayInfo> getCommonHolidays(int year, String countryCode1, String countryCode2) {
+    public void getHolidaysNotOnWeekends(int fromYear, int toYear, List<String> countryCodes,
+                                         Consumer<WeekdayHolidayCount> sink) {
+        Set<CalendarKey> grid = new LinkedHashSet<>();
+        for (int year = fromYear; year <= toYear; year++) {
+            for (String countryCode : countryCodes) {
+                grid.add(new CalendarKey(year, countryCode));
+            }
+        }
+
+        Map<CalendarKey, CompletableFuture<Long>> counts = BoundedFanOut.run(
+                grid,
+                properties.getMaxInFlight(),
+                key -> countWeekdayHolidays(key.year(), key.countryCode()));
+        BlockingQueue<CalendarKey> completed = new LinkedBlockingQueue<>();
+        counts.forEach((key, count) -> count.whenComplete((result, error) -> completed.add(key)));
+
+        Set<CalendarKey> pending = new LinkedHashSet<>(counts.keySet());
         try {
-            CompletableFuture<Holiday[]> future1 = CompletableFuture.supplyAsync(
-                    () -> apiClient.fetchHolidaysByCountry(year, countryCode1), asyncExecutor);
-            CompletableFuture<Holiday[]> future2 = CompletableFuture.supplyAsync(
-                    () -> apiClient.fetchHolidaysByCountry(year, countryCode2), asyncExecutor);
+            while (!pending.isEmpty()) {
+                CalendarKey key = awaitCompletion(completed, properties.getRequestTimeout().toNanos());
+                if (key == null) {
+                    log.error("Timed out counting weekday holidays, reporting {} pending calendars as 0", pending.size());
+                    for (CalendarKey late : pending) {
+                        emitCount(sink, late, counts.get(late));
+                    }
+                    return;
+                }
+                if (pending.remove(key)) {
+                    emitCount(sink, key, counts.get(key));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HolidayApiException("Interrupted while waiting for holidays", e);
+        } finally {
+            counts.values().forEach(count -> count.cancel(false));
+        }
+    }
 
-            CompletableFuture.allOf(future1, future2).join();
+    @Override
+    public List<CommonHolidayInfo> getCommonHolidays(int year, String countryCode1, String countryCode2) {
+        CompletableFuture<Holiday[]> future1 = apiClient.fetchHolidaysByCountryAsync(year, countryCode1);
+        CompletableFuture<Holiday[]> future2 = apiClient.fetchHolidaysByCountryAsync(year, countryCode2);
+
+        try {
+            long waitStart = System.nanoTime();
+            try {
+                CompletableFuture.allOf(future1, future2)
+                        .get(Math.max(0, deadline() - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } finally {
+                RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime() - waitStart);
+            }
 
             Holiday[] holidays1 = future1.get();
             Holiday[] holidays2 = future2.get();
@@ -81,40 +286,214 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
                 return Collections.emptyList();
             }
 
-            Map<LocalDate, Holiday> holiday1Map = Arrays.stream(holidays1)
-                    .collect(Collectors.toMap(Holiday::getDate, Function.identity()));
+            return indexOf(year, holidays1).commonWith(indexOf(year, holidays2));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new HolidayApiException("Failed to fetch holidays for comparison", e);
+        } catch (TimeoutException e) {
+            throw new HolidayApiException("Timed out fetching holidays for comparison", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HolidayApiException("Failed to fetch holidays for comparison", e);
+        }
+    }
+
+    /**
+     * Fetches every calendar once, with a bounded number in flight, and intersects them in a single
+     * pass over their indexes. Unlike the weekday counts a failing or late country fails the request,
+     * as the intersection would silently be wrong without it.
+     */
+    @Override
+    public List<SharedHolidayInfo> getSharedHolidays(int year, List<String> countryCodes, int minCountries) {
+        long deadline = deadline();
+        Map<String, CompletableFuture<Holiday[]>> calendars = BoundedFanOut.run(
+                new LinkedHashSet<>(countryCodes),
+                properties.getMaxInFlight(),
+                countryCode -> apiClient.fetchHolidaysByCountryAsync(year, countryCode));
+
+        Map<String, CalendarIndex> indexes = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, CompletableFuture<Holiday[]>> calendar : calendars.entrySet()) {
+                Holiday[] holidays = awaitHolidays(calendar.getValue(), deadline);
+                indexes.put(calendar.getKey(),
+                        holidays == null ? CalendarIndex.of(year, new Holiday[0]) : indexOf(year, holidays));
+            }
+        } catch (RuntimeException e) {
+            calendars.values().forEach(future -> future.cancel(false));
+            throw e;
+        }
+        return CalendarIndex.shared(indexes, minCountries);
+    }
+
+    /**
+     * Runs every query against a gateway that memoizes calendars for the duration of the batch.
+     * Calendars whose (year, country) is known up front, plus the current year of every most-recent
+     * query, are prefetched concurrently first; the queries then run in order and mostly find their
+     * calendars already fetched. The whole batch shares one deadline: a query still running when it
+     * passes, or not started by then, reports a timeout error.
+     */
+    @Override
+    public List<HolidayQueryResult> executeBatch(List<HolidayQuery> queries) {
+        long deadline = System.nanoTime() + properties.getBatchTimeout().toNanos();
+        MemoizingHolidayApiClient calendars = new MemoizingHolidayApiClient(apiClient);
+        HolidayUseCaseImpl batch = new HolidayUseCaseImpl(calendars, asyncExecutor, properties, indexes,
+                OptionalLong.of(deadline));
+
+        Set<CalendarKey> prefetch = new LinkedHashSet<>();
+        int currentYear = LocalDate.now().getYear();
+        for (HolidayQuery query : queries) {
+            if (query instanceof HolidayQuery.MostRecent q) {
+                prefetch.add(new CalendarKey(currentYear, q.countryCode()));
+            } else if (query instanceof HolidayQuery.NotOnWeekends q) {
+                q.countryCodes().forEach(countryCode -> prefetch.add(new CalendarKey(q.year(), countryCode)));
+            } else if (query instanceof HolidayQuery.Common q) {
+                prefetch.add(new CalendarKey(q.year(), q.countryCode1()));
+                prefetch.add(new CalendarKey(q.year(), q.countryCode2()));
+            } else if (query instanceof HolidayQuery.Shared q) {
+                q.countryCodes().forEach(countryCode -> prefetch.add(new CalendarKey(q.year(), countryCode)));
+            }
+        }
+        BoundedFanOut.run(prefetch, properties.getMaxInFlight(),
+                key -> calendars.fetchHolidaysByCountryAsync(key.year(), key.countryCode()));
+
+        List<HolidayQueryResult> results = new ArrayList<>(queries.size());
+        for (HolidayQuery query : queries) {
+            if (System.nanoTime() - deadline >= 0) {
+                results.add(HolidayQueryResult.failure(BATCH_TIMED_OUT));
+                continue;
+            }
+            try {
+                Object result = batch.execute(query);
+                // Past the deadline the query gave up waiting and its result is incomplete
+                results.add(System.nanoTime() - deadline >= 0
+                        ? HolidayQueryResult.failure(BATCH_TIMED_OUT)
+                        : HolidayQueryResult.success(result));
+            } catch (RuntimeException e) {
+                log.error("Batch query {} failed", query, e);
+                results.add(HolidayQueryResult.failure(e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private Object execute(HolidayQuery query) {
+        if (query instanceof HolidayQuery.MostRecent q) {
+            return getMostRecentHolidays(q.countryCode(), q.count()).value();
+        }
+        if (query instanceof HolidayQuery.NotOnWeekends q) {
+            return q.top() == null
+                    ? getHolidaysNotOnWeekends(q.year(), q.countryCodes()).value()
+                    : getHolidaysNotOnWeekends(q.year(), q.countryCodes(), q.top()).value();
+        }
+        if (query instanceof HolidayQuery.Common q) {
+            return getCommonHolidays(q.year(), q.countryCode1(), q.countryCode2());
+        }
+        if (query instanceof HolidayQuery.Shared q) {
+            return getSharedHolidays(q.year(), q.countryCodes(), q.minCountries());
+        }
+        throw new IllegalArgumentException("Unsupported query: " + query);
+    }
+
+    /**
+     * Deadline for a query starting now: the request timeout, cut short by the end of the batch.
+     */
+    private long deadline() {
+        long deadline = System.nanoTime() + properties.getRequestTimeout().toNanos();
+        if (batchDeadline.isPresent() && batchDeadline.getAsLong() - deadline < 0) {
+            return batchDeadline.getAsLong();
+        }
+        return deadline;
+    }
+
+    private CompletableFuture<Long> countWeekdayHolidays(int year, String countryCode) {
+        Executor executor = RequestTiming.bindCurrent(asyncExecutor);
+        return apiClient.fetchHolidaysByCountryAsync(year, countryCode)
+                .thenApplyAsync(holidays -> countWeekdays(year, holidays), executor);
+    }
+
+    private long countWeekdays(int year, Holiday[] holidays) {
+        if (holidays == null) return 0L;
+
+        return indexOf(year, holidays).weekdayHolidays();
+    }
+
+    private CalendarIndex indexOf(int year, Holiday[] holidays) {
+        return indexes.get(holidays, calendar -> CalendarIndex.of(year, calendar));
+    }
 
-            return Arrays.stream(holidays2)
-                    .filter(h -> holiday1Map.containsKey(h.getDate()))
-                    .map(h2 -> new CommonHolidayInfo(
-                            h2.getDate(),
-                            holiday1Map.get(h2.getDate()).getLocalName(),
-                            h2.getLocalName()
-                    ))
-                    .toList();
+    /**
+     * Keeps the {@code limit} greatest values according to {@code order} in a min-heap.
+     */
+    private static <T> void offerBounded(PriorityQueue<T> heap, T value, int limit, Comparator<T> order) {
+        if (heap.size() < limit) {
+            heap.offer(value);
+        } else if (order.compare(value, heap.peek()) > 0) {
+            heap.poll();
+            heap.offer(value);
+        }
+    }
 
-        } catch (ExecutionException | InterruptedException e) {
+    private Holiday[] awaitHolidays(CompletableFuture<Holiday[]> future, long deadline) {
+        long waitStart = System.nanoTime();
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new HolidayApiException("Failed to fetch holidays", e.getCause());
+        } catch (TimeoutException e) {
+            throw new HolidayApiException("Timed out fetching holidays", e);
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new HolidayApiException("Failed to fetch holidays for comparison", e);
+            throw new HolidayApiException("Interrupted while waiting for holidays", e);
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime() - waitStart);
         }
     }
 
-    private long countWeekdayHolidays(int year, String countryCode) {
+    /**
+     * Waits up to {@code timeoutNanos} for the next completed key, {@code null} if none completed in time.
+     */
+    private static <K> K awaitCompletion(BlockingQueue<K> completed, long timeoutNanos) throws InterruptedException {
+        long waitStart = System.nanoTime();
         try {
-            Holiday[] holidays = apiClient.fetchHolidaysByCountry(year, countryCode);
-            if (holidays == null) return 0L;
+            return completed.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.UPSTREAM, System.nanoTime() - waitStart);
+        }
+    }
 
-            return Arrays.stream(holidays)
-                    .map(Holiday::getDate)
-                    .filter(date -> !isWeekend(date.getDayOfWeek()))
-                    .count();
-        } catch (HolidayApiException e) {
-            log.error("Failed to count weekday holidays for country {} in year {}", countryCode, year, e);
-            return 0L;
+    private void emitCount(Consumer<WeekdayHolidayCount> sink, CalendarKey key, CompletableFuture<Long> count) {
+        Long value = countOrNull(key.year(), key.countryCode(), count);
+        sink.accept(new WeekdayHolidayCount(key.countryCode(), key.year(), value == null ? 0L : value));
+    }
+
+    /**
+     * The completed count, or {@code null} when it is not done yet or its calendar failed to fetch.
+     */
+    private Long countOrNull(int year, String countryCode, CompletableFuture<Long> count) {
+        if (!count.isDone()) {
+            count.cancel(false);
+            log.error("Timed out counting weekday holidays for country {} in year {}", countryCode, year);
+            return null;
+        }
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof HolidayApiException cause) {
+                log.error("Failed to count weekday holidays for country {} in year {}", countryCode, year, cause);
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
-    private boolean isWeekend(DayOfWeek dayOfWeek) {
-        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    private record RankedCount(String countryCode, int position, long count) {
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.accenture.holidays.application.usecase;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers every calendar fetched through it, so the queries of one batch fetch each
+ * (year, countryCode) at most once. Meant to live for a single batch only.
+ */
+final class MemoizingHolidayApiClient implements HolidayApiClient {
+
+    private final HolidayApiClient delegate;
+    private final ConcurrentMap<CalendarKey, CompletableFuture<Holiday[]>> calendars = new ConcurrentHashMap<>();
+
+    MemoizingHolidayApiClient(HolidayApiClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
+        try {
+            return fetchHolidaysByCountryAsync(year, countryCode).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new HolidayApiException("Failed to fetch holidays", e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        CompletableFuture<Holiday[]> calendar = calendars.computeIfAbsent(new CalendarKey(year, countryCode),
+                key -> delegate.fetchHolidaysByCountryAsync(key.year(), key.countryCode()));
+        // Queries cancel the futures they no longer need, which must not affect the others
+        return calendar.copy();
+    }
+
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        return delegate.fetchAvailableCountryCodes();
+    }
+}
@@ -0,0 +1,119 @@
+package com.accenture.holidays.application.usecase;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+import com.accenture.holidays.domain.model.CommonHolidayInfo;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.HolidayQuery;
+import com.accenture.holidays.domain.model.HolidayQueryResult;
+import com.accenture.holidays.domain.model.HolidayResult;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+import com.accenture.holidays.domain.model.WeekdayHolidayCount;
+import com.accenture.holidays.domain.usecase.HolidayUseCase;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Records every use case call as a {@code holiday.usecase} observation, tagged with the method and
+ * the outcome. The observation is current while the use case runs, so the upstream fetches it
+ * triggers show up as its children in a trace.
+ */
+public class ObservedHolidayUseCase implements HolidayUseCase {
+
+    static final String OBSERVATION_NAME = "holiday.usecase";
+
+    private final HolidayUseCase delegate;
+    private final ObservationRegistry observationRegistry;
+
+    public ObservedHolidayUseCase(HolidayUseCase delegate, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public HolidayResult<List<Holiday>> getMostRecentHolidays(String countryCode, int count) {
+        return observe("getMostRecentHolidays", () -> delegate.getMostRecentHolidays(countryCode, count));
+    }
+
+    @Override
+    public void getMostRecentHolidays(String countryCode, int count, Consumer<Holiday> sink) {
+        observe("streamMostRecentHolidays", () -> {
+            delegate.getMostRecentHolidays(countryCode, count, sink);
+            return null;
+        });
+    }
+
+    @Override
+    public HolidayResult<Map<String, Long>> getHolidaysNotOnWeekends(int year, List<String> countryCodes) {
+        return observe("getHolidaysNotOnWeekends", () -> delegate.getHolidaysNotOnWeekends(year, countryCodes));
+    }
+
+    @Override
+    public HolidayResult<Map<String, Long>> getHolidaysNotOnWeekends(int year, List<String> countryCodes, int top) {
+        return observe("getHolidaysNotOnWeekends", () -> delegate.getHolidaysNotOnWeekends(year, countryCodes, top));
+    }
+
+    @Override
+    public void getHolidaysNotOnWeekends(int fromYear, int toYear, List<String> countryCodes,
+                                         Consumer<WeekdayHolidayCount> sink) {
+        observe("streamHolidaysNotOnWeekends", () -> {
+            delegate.getHolidaysNotOnWeekends(fromYear, toYear, countryCodes, sink);
+            return null;
+        });
+    }
+
+    @Override
+    public List<CommonHolidayInfo> getCommonHolidays(int year, String countryCode1, String countryCode2) {
+        return observe("getCommonHolidays", () -> delegate.getCommonHolidays(year, countryCode1, countryCode2));
+    }
+
+    @Override
+    public List<SharedHolidayInfo> getSharedHolidays(int year, List<String> countryCodes, int minCountries) {
+        return observe("getSharedHolidays", () -> delegate.getSharedHolidays(year, countryCodes, minCountries));
+    }
+
+    @Override
+    public List<HolidayQueryResult> executeBatch(List<HolidayQuery> queries) {
+        return observe("executeBatch", () -> delegate.executeBatch(queries));
+    }
+
+    private <T> T observe(String method, Supplier<T> call) {
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("holiday-use-case " + method)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            T result = call.get();
+            observation.lowCardinalityKeyValue("outcome", "success");
+            return result;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("outcome", outcome(e));
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * {@code unavailable} when the upstream could not be reached at all, {@code upstream_error} when
+     * it answered but a calendar could not be fetched or read, {@code client_error} for invalid input.
+     */
+    private static String outcome(RuntimeException error) {
+        if (error instanceof UpstreamUnavailableException) {
+            return "unavailable";
+        }
+        if (error instanceof HolidayApiException) {
+            return "upstream_error";
+        }
+        if (error instanceof IllegalArgumentException) {
+            return "client_error";
+        }
+        return "error";
+    }
+}
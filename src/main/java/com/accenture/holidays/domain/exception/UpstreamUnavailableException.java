@@ -0,0 +1,11 @@
+package com.accenture.holidays.domain.exception;
+
+/**
+ * The holiday API could not be reached or kept failing, or calls to it are currently being shed to
+ * protect the service. Callers may retry later.
+ */
+public class UpstreamUnavailableException extends HolidayApiException {
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
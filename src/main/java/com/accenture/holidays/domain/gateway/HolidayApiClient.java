@@ -3,8 +3,28 @@ package com.accenture.holidays.domain.gateway;
 import com.accenture.holidays.domain.exception.HolidayApiException;
 import com.accenture.holidays.domain.model.Holiday;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Source of yearly holiday calendars. Returned calendars may be shared with other callers, for
+ * example when served from a cache, and must be treated as read-only; use {@link Holiday#copy()}
+ * before handing holidays to code that may change them.
+ */
 public interface HolidayApiClient {
 
     Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException;
 
+    /**
+     * Non-blocking variant of {@link #fetchHolidaysByCountry(int, String)}: no thread waits while the
+     * request is in flight. Failures complete the returned future exceptionally with the same
+     * exceptions the blocking variant throws.
+     */
+    CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode);
+
+    /**
+     * Codes of every country the source has calendars for.
+     */
+    List<String> fetchAvailableCountryCodes() throws HolidayApiException;
+
 }
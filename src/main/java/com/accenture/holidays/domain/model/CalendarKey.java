@@ -0,0 +1,9 @@
+package com.accenture.holidays.domain.model;
+
+/**
+ * Identifies the holiday calendar of a single country for a single year.
+ */
+public record CalendarKey(
+        int year,
+        String countryCode
+){}
@@ -14,4 +14,35 @@ public class Holiday {
     private String[] counties;
     private int launchYear;
     private String[] types;
-} 
\ No newline at end of file
+
+    /**
+     * A deep copy, sharing nothing mutable with this holiday.
+     */
+    public Holiday copy() {
+        Holiday copy = new Holiday();
+        copy.date = date;
+        copy.localName = localName;
+        copy.name = name;
+        copy.countryCode = countryCode;
+        copy.fixed = fixed;
+        copy.global = global;
+        copy.counties = counties == null ? null : counties.clone();
+        copy.launchYear = launchYear;
+        copy.types = types == null ? null : types.clone();
+        return copy;
+    }
+
+    /**
+     * Deep copy of a calendar, {@code null} for {@code null}.
+     */
+    public static Holiday[] copyOf(Holiday[] holidays) {
+        if (holidays == null) {
+            return null;
+        }
+        Holiday[] copy = new Holiday[holidays.length];
+        for (int i = 0; i < holidays.length; i++) {
+            copy[i] = holidays[i] == null ? null : holidays[i].copy();
+        }
+        return copy;
+    }
+}
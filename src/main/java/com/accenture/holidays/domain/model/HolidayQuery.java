@@ -0,0 +1,24 @@
+package com.accenture.holidays.domain.model;
+
+import java.util.List;
+
+/**
+ * One query of a batch, mirroring the single-query operations of the holiday use case.
+ */
+public sealed interface HolidayQuery {
+
+    record MostRecent(String countryCode, int count) implements HolidayQuery {
+    }
+
+    /**
+     * {@code top} limits the result to the highest counts, {@code null} returns every country.
+     */
+    record NotOnWeekends(int year, List<String> countryCodes, Integer top) implements HolidayQuery {
+    }
+
+    record Common(int year, String countryCode1, String countryCode2) implements HolidayQuery {
+    }
+
+    record Shared(int year, List<String> countryCodes, int minCountries) implements HolidayQuery {
+    }
+}
@@ -0,0 +1,17 @@
+package com.accenture.holidays.domain.model;
+
+/**
+ * Outcome of one query of a batch: either its result or the reason it failed.
+ */
+public record HolidayQueryResult(
+        Object result,
+        String error
+){
+    public static HolidayQueryResult success(Object result) {
+        return new HolidayQueryResult(result, null);
+    }
+
+    public static HolidayQueryResult failure(String error) {
+        return new HolidayQueryResult(null, error);
+    }
+}
@@ -0,0 +1,18 @@
+package com.accenture.holidays.domain.model;
+
+/**
+ * Result of a query that answers despite failing calendars: when a calendar fails or arrives too
+ * late the query still returns what it has, marked as partial so it is not cached as the answer.
+ */
+public record HolidayResult<T>(
+        T value,
+        boolean partial
+){
+    public static <T> HolidayResult<T> complete(T value) {
+        return new HolidayResult<>(value, false);
+    }
+
+    public static <T> HolidayResult<T> partial(T value) {
+        return new HolidayResult<>(value, true);
+    }
+}
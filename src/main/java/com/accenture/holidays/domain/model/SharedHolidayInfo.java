@@ -0,0 +1,13 @@
+package com.accenture.holidays.domain.model;
+
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * A date that is a holiday in several countries, with the local name per country code.
+ */
+public record SharedHolidayInfo(
+        LocalDate date,
+        Map<String, String> localNames
+){}
@@ -0,0 +1,10 @@
+package com.accenture.holidays.domain.model;
+
+/**
+ * Number of holidays of one country in one year that do not fall on a weekend.
+ */
+public record WeekdayHolidayCount(
+        String countryCode,
+        int year,
+        long count
+){}
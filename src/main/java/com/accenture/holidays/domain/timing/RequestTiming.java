@@ -0,0 +1,109 @@
+package com.accenture.holidays.domain.timing;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Where the time of a single API request went, split into {@link Phase phases}.
+ * <p>
+ * The timing of the request being handled is bound to the handling thread. Code running on other
+ * threads on the request's behalf records into the same timing: executor tasks through
+ * {@link #bindCurrent(Executor)}, callbacks by capturing {@link #current()} before they are scheduled.
+ * Phases of concurrent work are summed, so together they can exceed the request's elapsed time.
+ * Recording without a current timing, e.g. for a background cache refresh, is a no-op.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        /** The request thread blocked waiting for calendars, or for counts derived from them. */
+        UPSTREAM,
+        /** Tasks of the request waited in the executor queue. */
+        QUEUE,
+        /** Upstream responses fetched for the request were decoded. */
+        DECODE,
+        /** Tasks of the request ran on the executor. */
+        COMPUTE
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final Map<Phase, LongAdder> phases = new EnumMap<>(Phase.class);
+
+    public RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * The timing bound to the calling thread, or {@code null}.
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds {@code timing} to the calling thread; {@code null} unbinds.
+     */
+    public static void set(RequestTiming timing) {
+        if (timing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timing);
+        }
+    }
+
+    /**
+     * Adds {@code nanos} to the timing bound to the calling thread, if any.
+     */
+    public static void record(Phase phase, long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, nanos);
+        }
+    }
+
+    /**
+     * Runs tasks on {@code executor} on behalf of the timing current at this call, recording their
+     * queueing and run time into it; tasks run with that timing bound. Returns {@code executor}
+     * itself when there is no current timing. Binding at this call rather than at submission
+     * matters for dependent stages, which are submitted by whatever thread completes their input.
+     */
+    public static Executor bindCurrent(Executor executor) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return executor;
+        }
+        return task -> {
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                long started = System.nanoTime();
+                timing.add(Phase.QUEUE, started - submitted);
+                RequestTiming previous = CURRENT.get();
+                CURRENT.set(timing);
+                try {
+                    task.run();
+                } finally {
+                    set(previous);
+                    timing.add(Phase.COMPUTE, System.nanoTime() - started);
+                }
+            });
+        };
+    }
+
+    public void add(Phase phase, long nanos) {
+        phases.get(phase).add(nanos);
+    }
+
+    public long nanos(Phase phase) {
+        return phases.get(phase).sum();
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -2,15 +2,61 @@ package com.accenture.holidays.domain.usecase;
 
 import com.accenture.holidays.domain.model.CommonHolidayInfo;
 import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.HolidayQuery;
+import com.accenture.holidays.domain.model.HolidayQueryResult;
+import com.accenture.holidays.domain.model.HolidayResult;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+import com.accenture.holidays.domain.model.WeekdayHolidayCount;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface HolidayUseCase {
     
-    List<Holiday> getMostRecentHolidays(String countryCode, int count);
+    /**
+     * The {@code count} most recent past holidays, newest first; partial when an upstream failure or
+     * the deadline cut the walk back through the years short.
+     */
+    HolidayResult<List<Holiday>> getMostRecentHolidays(String countryCode, int count);
 
-    Map<String, Long> getHolidaysNotOnWeekends(int year, List<String> countryCodes);
+    /**
+     * Passes the {@code count} most recent past holidays to {@code sink} on the calling thread,
+     * newest first, as soon as each year has been inspected.
+     */
+    void getMostRecentHolidays(String countryCode, int count, Consumer<Holiday> sink);
+
+    /**
+     * Weekday holiday count per country, ordered by count descending and ties in request order.
+     * Countries that fail or are not counted in time rank with 0 and make the result partial.
+     */
+    HolidayResult<Map<String, Long>> getHolidaysNotOnWeekends(int year, List<String> countryCodes);
+
+    /**
+     * Like {@link #getHolidaysNotOnWeekends(int, List)}, limited to the {@code top} highest counts.
+     */
+    HolidayResult<Map<String, Long>> getHolidaysNotOnWeekends(int year, List<String> countryCodes, int top);
+
+    /**
+     * Counts weekday holidays for every (year, country) from {@code fromYear} to {@code toYear}
+     * inclusive and hands each count to {@code sink} on the calling thread as soon as it is
+     * available, in completion order. Returns once every count has been passed on.
+     */
+    void getHolidaysNotOnWeekends(int fromYear, int toYear, List<String> countryCodes,
+                                  Consumer<WeekdayHolidayCount> sink);
 
     List<CommonHolidayInfo> getCommonHolidays(int year, String countryCode1, String countryCode2);
-} 
\ No newline at end of file
+
+    /**
+     * Dates in {@code year} that are a holiday in at least {@code minCountries} of the given
+     * countries, in date order. A {@code minCountries} above the number of distinct countries
+     * matches no date.
+     */
+    List<SharedHolidayInfo> getSharedHolidays(int year, List<String> countryCodes, int minCountries);
+
+    /**
+     * Executes many queries at once, fetching every (year, countryCode) they share only once. Results
+     * are returned in query order; a failing query yields an error result instead of failing the batch.
+     */
+    List<HolidayQueryResult> executeBatch(List<HolidayQuery> queries);
+}
@@ -0,0 +1,278 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps recently fetched calendars in memory so repeated lookups of the same
+ * (year, countryCode) pair do not go over the network.
+ * <p>
+ * The cache is size bounded with W-TinyLFU eviction. Calendars of past years get a long
+ * time to live, calendars of the current and future years a short one because they can
+ * still change upstream.
+ * <p>
+ * Calendars that are being read are refreshed ahead of expiry: a scheduler periodically
+ * re-fetches every entry whose refresh interval for its year class (past, current, future)
+ * has elapsed, while callers keep getting the cached value without waiting. A failed refresh
+ * is counted and retried later; the cached value stays in place until a refresh succeeds.
+ * <p>
+ * The cache keeps its own copy of every calendar, so nothing below it shares the arrays it hands
+ * out, and every hit returns that same read-only copy.
+ */
+@Slf4j
+public class CachingHolidayApiClient implements HolidayApiClient, AutoCloseable {
+
+    private final HolidayApiClient delegate;
+    private final HolidayApiProperties.Cache properties;
+    private final Ticker ticker;
+    private final Clock clock;
+    private final Cache<CalendarKey, CachedCalendar> cache;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger refreshesInFlight = new AtomicInteger();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public CachingHolidayApiClient(HolidayApiClient delegate, HolidayApiProperties.Cache properties) {
+        this(delegate, properties, Ticker.systemTicker(), Clock.systemDefaultZone(),
+                properties.getRefresh().isEnabled() ? newRefreshScheduler() : null);
+    }
+
+    /**
+     * Creates a cache without a refresh scheduler, refreshes only happen through {@link #refreshDue()}.
+     */
+    CachingHolidayApiClient(HolidayApiClient delegate, HolidayApiProperties.Cache properties,
+                            Ticker ticker, Clock clock) {
+        this(delegate, properties, ticker, clock, null);
+    }
+
+    private CachingHolidayApiClient(HolidayApiClient delegate, HolidayApiProperties.Cache properties,
+                                    Ticker ticker, Clock clock, ScheduledExecutorService scheduler) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.ticker = ticker;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new YearBasedExpiry(properties, clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.scheduler = scheduler;
+        if (scheduler != null) {
+            long scanInterval = properties.getRefresh().getScanInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::refreshDue, scanInterval, scanInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
+        CalendarKey key = new CalendarKey(year, countryCode);
+        Holiday[] cached = read(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Holiday[] holidays = delegate.fetchHolidaysByCountry(year, countryCode);
+        return holidays == null ? null : store(key, holidays);
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        CalendarKey key = new CalendarKey(year, countryCode);
+        Holiday[] cached = read(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        // Stored on the delegate's future, so a caller cancelling its own does not lose the calendar
+        CompletableFuture<Holiday[]> result = new CompletableFuture<>();
+        delegate.fetchHolidaysByCountryAsync(year, countryCode).whenComplete((holidays, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(holidays == null ? null : store(key, holidays));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        return delegate.fetchAvailableCountryCodes();
+    }
+
+    /**
+     * Hit, miss and eviction counters of the underlying cache.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Number of background refreshes that replaced a cached calendar.
+     */
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Number of background refreshes that failed and left the cached calendar in place.
+     */
+    public long refreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts a background refresh for every calendar that has been read since it was stored and
+     * whose refresh time has passed, up to the configured number of refreshes in flight.
+     */
+    void refreshDue() {
+        long now = ticker.read();
+        int maxInFlight = properties.getRefresh().getMaxInFlight();
+        for (Map.Entry<CalendarKey, CachedCalendar> entry : cache.asMap().entrySet()) {
+            CachedCalendar cached = entry.getValue();
+            if (cached.read && !cached.refreshing && now - cached.refreshAt >= 0) {
+                if (refreshesInFlight.get() >= maxInFlight) {
+                    return;
+                }
+                refresh(entry.getKey(), cached);
+            }
+        }
+    }
+
+    private void refresh(CalendarKey key, CachedCalendar stale) {
+        stale.refreshing = true;
+        refreshesInFlight.incrementAndGet();
+        CompletableFuture<Holiday[]> call;
+        try {
+            call = UpstreamPriority.background(() -> PersistentHolidayApiClient.bypassingStore(
+                    () -> delegate.fetchHolidaysByCountryAsync(key.year(), key.countryCode())));
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+
+        call.whenComplete((holidays, error) -> {
+            refreshesInFlight.decrementAndGet();
+            if (error == null && holidays != null) {
+                refreshes.increment();
+                cache.asMap().replace(key, stale, new CachedCalendar(Holiday.copyOf(holidays), refreshAt(key)));
+                return;
+            }
+            refreshFailures.increment();
+            log.warn("Failed to refresh calendar for country {} in year {}, keeping the cached one",
+                    key.countryCode(), key.year(), error);
+            CachedCalendar retry = new CachedCalendar(stale.holidays,
+                    ticker.read() + properties.getRefresh().getRetryInterval().toNanos());
+            retry.read = true;
+            cache.asMap().replace(key, stale, retry);
+        });
+    }
+
+    private Holiday[] read(CalendarKey key) {
+        CachedCalendar cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return null;
+        }
+        cached.read = true;
+        return cached.holidays;
+    }
+
+    private Holiday[] store(CalendarKey key, Holiday[] holidays) {
+        Holiday[] copy = Holiday.copyOf(holidays);
+        cache.put(key, new CachedCalendar(copy, refreshAt(key)));
+        return copy;
+    }
+
+    private long refreshAt(CalendarKey key) {
+        HolidayApiProperties.Cache.Refresh refresh = properties.getRefresh();
+        int currentYear = Year.now(clock).getValue();
+        Duration interval = key.year() < currentYear ? refresh.getPastYear()
+                : key.year() == currentYear ? refresh.getCurrentYear()
+                : refresh.getFutureYear();
+        return ticker.read() + interval.toNanos();
+    }
+
+    private static ScheduledExecutorService newRefreshScheduler() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("holiday-cache-refresh-");
+        threadFactory.setDaemon(true);
+        return Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * A cached calendar with its refresh bookkeeping. Identity matters: a refresh only replaces the
+     * exact instance it was started for.
+     */
+    private static final class CachedCalendar {
+
+        private final Holiday[] holidays;
+        private final long refreshAt;
+        private volatile boolean read;
+        private volatile boolean refreshing;
+
+        private CachedCalendar(Holiday[] holidays, long refreshAt) {
+            this.holidays = holidays;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    private static final class YearBasedExpiry implements Expiry<CalendarKey, CachedCalendar> {
+
+        private final HolidayApiProperties.Cache properties;
+        private final Clock clock;
+
+        private YearBasedExpiry(HolidayApiProperties.Cache properties, Clock clock) {
+            this.properties = properties;
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(CalendarKey key, CachedCalendar value, long currentTime) {
+            return ttlFor(key).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(CalendarKey key, CachedCalendar value, long currentTime, long currentDuration) {
+            return ttlFor(key).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(CalendarKey key, CachedCalendar value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private Duration ttlFor(CalendarKey key) {
+            return key.year() < Year.now(clock).getValue()
+                    ? properties.getPastYearTtl()
+                    : properties.getCurrentYearTtl();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses concurrent fetches of the same (year, countryCode) into a single upstream call.
+ * <p>
+ * The first caller performs the fetch, every caller arriving while it is in flight waits
+ * on the same {@link CompletableFuture} and receives its result or its failure. Blocking and
+ * non-blocking callers share the same in-flight calls.
+ */
+public class CoalescingHolidayApiClient implements HolidayApiClient {
+
+    private final HolidayApiClient delegate;
+    private final ConcurrentMap<CalendarKey, CompletableFuture<Holiday[]>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public CoalescingHolidayApiClient(HolidayApiClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
+        CalendarKey key = new CalendarKey(year, countryCode);
+        CompletableFuture<Holiday[]> call = new CompletableFuture<>();
+        CompletableFuture<Holiday[]> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            Holiday[] holidays = delegate.fetchHolidaysByCountry(year, countryCode);
+            call.complete(holidays);
+            return holidays;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        CalendarKey key = new CalendarKey(year, countryCode);
+        CompletableFuture<Holiday[]> call = new CompletableFuture<>();
+        CompletableFuture<Holiday[]> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        CompletableFuture<Holiday[]> upstream;
+        try {
+            upstream = delegate.fetchHolidaysByCountryAsync(year, countryCode);
+        } catch (RuntimeException e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+        upstream.whenComplete((holidays, error) -> {
+            inFlight.remove(key, call);
+            if (error != null) {
+                call.completeExceptionally(unwrap(error));
+            } else {
+                call.complete(holidays);
+            }
+        });
+        // Callers get a copy so cancelling one of them does not cancel the shared call
+        return call.copy();
+    }
+
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        return delegate.fetchAvailableCountryCodes();
+    }
+
+    /**
+     * Number of distinct calendars currently being fetched.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Number of calls that joined a fetch already in flight instead of starting their own.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static Holiday[] await(CompletableFuture<Holiday[]> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new HolidayApiException("Failed to fetch holidays", e.getCause());
+        }
+    }
+}
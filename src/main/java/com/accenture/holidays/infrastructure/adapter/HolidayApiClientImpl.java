@@ -1,38 +1,223 @@
 package com.accenture.holidays.infrastructure.adapter;
 
 import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import com.accenture.holidays.infrastructure.persistence.CalendarCodec;
 import com.accenture.holidays.domain.gateway.HolidayApiClient;
 import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.model.CalendarKey;
 import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.timing.RequestTiming;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Component
 @AllArgsConstructor
 @Slf4j
 public class HolidayApiClientImpl implements HolidayApiClient {
 
+    private static final int MAX_REVALIDATIONS = 10_000;
+    private static final RequestCallback ACCEPT_JSON =
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+
     private final RestTemplate restTemplate;
     private final HolidayApiProperties apiProperties;
+    private final HttpClient httpClient;
+    private final HolidayJsonDecoder decoder;
+    /** Validators and the encoded body of the last full response per calendar, for conditional requests. */
+    private final Cache<CalendarKey, Revalidation> revalidations = Caffeine.newBuilder()
+            .maximumSize(MAX_REVALIDATIONS)
+            .build();
 
+    /**
+     * Decodes the calendar straight from the response stream, see {@link HolidayJsonDecoder}.
+     */
     public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
-        String url = buildHolidayUrl(year, countryCode);
+        URI url = URI.create(buildHolidayUrl(year, countryCode));
         try {
-            return restTemplate.getForObject(url, Holiday[].class);
+            return restTemplate.execute(url, HttpMethod.GET, ACCEPT_JSON,
+                    response -> decode(countryCode, response.getBody()));
         } catch (HttpClientErrorException e) {
             log.error("Failed to fetch holidays for country {} in year {}", countryCode, year, e);
             throw new HolidayApiException("Failed to fetch holidays for country: " + countryCode, e);
         }
     }
 
+    /**
+     * When a calendar has been fetched before with an {@code ETag} or {@code Last-Modified} header,
+     * the request is made conditional and a {@code 304 Not Modified} reuses the previous body.
+     * Decoding the response is recorded on the {@link RequestTiming} of the calling request.
+     */
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        CalendarKey key = new CalendarKey(year, countryCode);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(buildHolidayUrl(year, countryCode)))
+                .timeout(apiProperties.getHttp().getReadTimeout())
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET();
+        Revalidation previous = apiProperties.getHttp().isConditionalRequests()
+                ? revalidations.getIfPresent(key)
+                : null;
+        if (previous != null) {
+            if (previous.etag() != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, previous.etag());
+            }
+            if (previous.lastModified() != null) {
+                request.header(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+            }
+        }
+        RequestTiming timing = RequestTiming.current();
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> toHolidays(key, previous, timing, response, error));
+    }
+
+    /**
+     * Codes of every country the upstream publishes calendars for.
+     */
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        String url = UriComponentsBuilder.fromHttpUrl(apiProperties.getBaseUrl())
+                .path("/AvailableCountries")
+                .toUriString();
+        JsonNode countries;
+        try {
+            countries = restTemplate.getForObject(url, JsonNode.class);
+        } catch (RestClientException e) {
+            throw new HolidayApiException("Failed to fetch available countries", e);
+        }
+
+        List<String> countryCodes = new ArrayList<>();
+        if (countries != null) {
+            for (JsonNode country : countries) {
+                String countryCode = country.path("countryCode").asText(null);
+                if (countryCode != null) {
+                    countryCodes.add(countryCode);
+                }
+            }
+        }
+        return countryCodes;
+    }
+
+    /**
+     * Maps a raw response the same way {@link RestTemplate} does for the blocking variant, so
+     * callers see identical exceptions on both paths.
+     */
+    private Holiday[] toHolidays(CalendarKey key, Revalidation previous, RequestTiming timing,
+                                 HttpResponse<byte[]> response, Throwable error) {
+        int year = key.year();
+        String countryCode = key.countryCode();
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            throw new ResourceAccessException("I/O error on GET request for holidays of country " + countryCode,
+                    cause instanceof IOException ioException ? ioException : new IOException(cause));
+        }
+
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (status.isSameCodeAs(HttpStatus.NOT_MODIFIED) && previous != null) {
+            long decodeStart = System.nanoTime();
+            try {
+                return CalendarCodec.decode(ByteBuffer.wrap(previous.body()));
+            } finally {
+                if (timing != null) {
+                    timing.add(RequestTiming.Phase.DECODE, System.nanoTime() - decodeStart);
+                }
+            }
+        }
+        if (status.is4xxClientError()) {
+            HttpClientErrorException e = HttpClientErrorException.create(
+                    status, "", HttpHeaders.EMPTY, response.body(), null);
+            log.error("Failed to fetch holidays for country {} in year {}", countryCode, year, e);
+            throw new HolidayApiException("Failed to fetch holidays for country: " + countryCode, e);
+        }
+        if (status.is5xxServerError()) {
+            throw HttpServerErrorException.create(status, "", HttpHeaders.EMPTY, response.body(), null);
+        }
+
+        byte[] body = response.body();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        Holiday[] holidays;
+        long decodeStart = System.nanoTime();
+        try {
+            holidays = decoder.decode(body);
+        } catch (IOException e) {
+            throw new HolidayApiException("Failed to read holidays for country: " + countryCode, e);
+        } finally {
+            if (timing != null) {
+                timing.add(RequestTiming.Phase.DECODE, System.nanoTime() - decodeStart);
+            }
+        }
+        remember(key, response.headers(), holidays);
+        return holidays;
+    }
+
+    /**
+     * A malformed body fails the call like an unreadable one on the non-blocking path; only I/O
+     * errors while reading surface as {@link ResourceAccessException}, which is retried.
+     */
+    private Holiday[] decode(String countryCode, InputStream body) throws IOException {
+        try {
+            return decoder.decode(body);
+        } catch (JsonProcessingException e) {
+            throw new HolidayApiException("Failed to read holidays for country: " + countryCode, e);
+        }
+    }
+
+    /**
+     * Keeps the validators with the calendar in {@link CalendarCodec} form, a single compact byte
+     * array instead of a second copy of the decoded holidays next to the caches above.
+     */
+    private void remember(CalendarKey key, java.net.http.HttpHeaders headers, Holiday[] holidays) {
+        String etag = headers.firstValue(HttpHeaders.ETAG).orElse(null);
+        String lastModified = headers.firstValue(HttpHeaders.LAST_MODIFIED).orElse(null);
+        if (etag == null && lastModified == null) {
+            revalidations.invalidate(key);
+            return;
+        }
+        try {
+            revalidations.put(key, new Revalidation(etag, lastModified, CalendarCodec.encode(holidays)));
+        } catch (IllegalArgumentException e) {
+            // Too large for the encoding: fetch it in full next time
+            revalidations.invalidate(key);
+        }
+    }
+
     private String buildHolidayUrl(int year, String countryCode) {
         return UriComponentsBuilder.fromHttpUrl(apiProperties.getBaseUrl())
                 .path("/PublicHolidays/{year}/{countryCode}")
                 .buildAndExpand(year, countryCode)
                 .toUriString();
     }
-}
\ No newline at end of file
+
+    private record Revalidation(String etag, String lastModified, byte[] body) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decodes upstream calendars token by token with Jackson's {@link JsonParser}, without data
+ * binding: no bean introspection, no intermediate tree, and fields that are not needed are skipped
+ * without being materialized.
+ * <p>
+ * Date, local name and name are always decoded; the optional fields only when listed in
+ * {@code decodedFields}, the others keep their defaults. Strings are interned in a bounded,
+ * decoder-wide table, so the country codes, type and county names and the holiday names repeated
+ * across years and countries are held once by all cached calendars.
+ */
+public final class HolidayJsonDecoder {
+
+    /** Upper bound of the intern table, far above the distinct strings of all calendars. */
+    static final int MAX_INTERNED = 100_000;
+
+    private static final String[] NO_STRINGS = new String[0];
+
+    private final JsonFactory jsonFactory;
+    private final Set<HolidayField> decodedFields;
+    private final ConcurrentMap<String, String> interned = new ConcurrentHashMap<>();
+
+    public HolidayJsonDecoder(JsonFactory jsonFactory, Set<HolidayField> decodedFields) {
+        this.jsonFactory = jsonFactory;
+        this.decodedFields = decodedFields.isEmpty() ? EnumSet.noneOf(HolidayField.class) : EnumSet.copyOf(decodedFields);
+    }
+
+    /**
+     * Reads a calendar straight from {@code body}; {@code null} for an empty body.
+     */
+    public Holiday[] decode(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    public Holiday[] decode(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    private Holiday[] decode(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_ARRAY);
+
+        List<Holiday> holidays = new ArrayList<>(16);
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            holidays.add(decodeHoliday(parser));
+        }
+        return holidays.toArray(new Holiday[0]);
+    }
+
+    private Holiday decodeHoliday(JsonParser parser) throws IOException {
+        Holiday holiday = new Holiday();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "date" -> holiday.setDate(parseDate(parser));
+                case "localName" -> holiday.setLocalName(intern(parser.getText()));
+                case "name" -> holiday.setName(intern(parser.getText()));
+                case "countryCode" -> {
+                    if (decodedFields.contains(HolidayField.COUNTRY_CODE)) {
+                        holiday.setCountryCode(intern(parser.getText()));
+                    }
+                }
+                case "fixed" -> {
+                    if (decodedFields.contains(HolidayField.FIXED)) {
+                        holiday.setFixed(parser.getBooleanValue());
+                    }
+                }
+                case "global" -> {
+                    if (decodedFields.contains(HolidayField.GLOBAL)) {
+                        holiday.setGlobal(parser.getBooleanValue());
+                    }
+                }
+                case "launchYear" -> {
+                    if (decodedFields.contains(HolidayField.LAUNCH_YEAR)) {
+                        holiday.setLaunchYear(parser.getIntValue());
+                    }
+                }
+                case "counties" -> {
+                    if (decodedFields.contains(HolidayField.COUNTIES)) {
+                        holiday.setCounties(decodeStrings(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "types" -> {
+                    if (decodedFields.contains(HolidayField.TYPES)) {
+                        holiday.setTypes(decodeStrings(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return holiday;
+    }
+
+    private String[] decodeStrings(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        List<String> values = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (values == null) {
+                values = new ArrayList<>(4);
+            }
+            values.add(intern(parser.getText()));
+        }
+        return values == null ? NO_STRINGS : values.toArray(NO_STRINGS);
+    }
+
+    /**
+     * ISO dates as sent by the upstream, without going through a formatter.
+     */
+    private static LocalDate parseDate(JsonParser parser) throws IOException {
+        String text = parser.getText();
+        try {
+            if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+                return LocalDate.of(digits(text, 0, 4), digits(text, 5, 7), digits(text, 8, 10));
+            }
+            return LocalDate.parse(text);
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new JsonParseException(parser, "Invalid date: " + text, e);
+        }
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid date: " + text);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private String intern(String value) {
+        String existing = interned.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (interned.size() >= MAX_INTERNED) {
+            return value;
+        }
+        existing = interned.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but got " + actual);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Records every fetch that reaches the upstream as a {@code holiday.upstream.fetch} observation:
+ * a timer tagged with the outcome and the country, plus a span that is a child of whatever
+ * observation is current when the fetch starts, normally the API request that needed it.
+ * <p>
+ * Only the countries listed in {@code taggedCountries} get their own tag value, all others are
+ * tagged {@code other}, so the number of time series stays bounded whatever codes come in. The
+ * exact country and year are added to the span only.
+ */
+public class ObservedHolidayApiClient implements HolidayApiClient {
+
+    static final String OBSERVATION_NAME = "holiday.upstream.fetch";
+    static final String OTHER_COUNTRY = "other";
+
+    private final HolidayApiClient delegate;
+    private final ObservationRegistry observationRegistry;
+    private final Set<String> taggedCountries;
+
+    public ObservedHolidayApiClient(HolidayApiClient delegate, ObservationRegistry observationRegistry,
+                                    Collection<String> taggedCountries) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+        this.taggedCountries = Set.copyOf(taggedCountries);
+    }
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
+        Observation observation = start(year, countryCode);
+        try (Observation.Scope scope = observation.openScope()) {
+            Holiday[] holidays = delegate.fetchHolidaysByCountry(year, countryCode);
+            stop(observation, null);
+            return holidays;
+        } catch (RuntimeException e) {
+            stop(observation, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        Observation observation = start(year, countryCode);
+        CompletableFuture<Holiday[]> call;
+        try (Observation.Scope scope = observation.openScope()) {
+            call = delegate.fetchHolidaysByCountryAsync(year, countryCode);
+        } catch (RuntimeException e) {
+            stop(observation, e);
+            throw e;
+        }
+        return call.whenComplete((holidays, error) -> stop(observation, error));
+    }
+
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        return delegate.fetchAvailableCountryCodes();
+    }
+
+    private Observation start(int year, String countryCode) {
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("fetch holidays")
+                .lowCardinalityKeyValue("country", taggedCountries.contains(countryCode) ? countryCode : OTHER_COUNTRY)
+                .highCardinalityKeyValue("holiday.country", String.valueOf(countryCode))
+                .highCardinalityKeyValue("holiday.year", String.valueOf(year))
+                .start();
+    }
+
+    private static void stop(Observation observation, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        observation.lowCardinalityKeyValue("outcome", outcome(cause));
+        if (cause != null) {
+            observation.error(cause);
+        }
+        observation.stop();
+    }
+
+    /**
+     * {@code success}; {@code client_error} for a 4xx such as an unknown country;
+     * {@code unavailable} when retries, the circuit breaker, the bulkhead or the rate limiter gave up;
+     * {@code cancelled}; and {@code error} for anything else, e.g. an unreadable body.
+     */
+    static String outcome(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        if (error instanceof UpstreamUnavailableException) {
+            return "unavailable";
+        }
+        if (error instanceof HolidayApiException && error.getCause() instanceof HttpClientErrorException) {
+            return "client_error";
+        }
+        if (error instanceof CancellationException) {
+            return "cancelled";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,181 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import com.accenture.holidays.infrastructure.persistence.CalendarStore;
+import com.accenture.holidays.infrastructure.persistence.StoredCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Persists every fetched calendar and serves stored ones without going upstream where possible.
+ * <p>
+ * Calendars of past years are treated as immutable and served from the store once present, as long
+ * as they were decoded with every field that is decoded now; one stored with fewer fields, before
+ * {@code decoded-fields} was widened, is fetched again and replaced. Current and future years are fetched upstream and written through; the stored copy is only used
+ * when the upstream call fails. Refreshes started inside {@link #bypassingStore(Supplier)} skip the
+ * stored past-year copy and go upstream, so corrections published there still reach the store.
+ * <p>
+ * Writes happen on a dedicated writer thread, off the request and HTTP completion threads: a slow or
+ * failing store neither delays nor fails the response, it only means the calendar is not stored.
+ */
+@Slf4j
+public class PersistentHolidayApiClient implements HolidayApiClient {
+
+    /** Writes waiting for the writer thread beyond which new ones are dropped. */
+    static final int MAX_PENDING_WRITES = 1_000;
+
+    private static final ThreadLocal<Boolean> BYPASSING_STORE = ThreadLocal.withInitial(() -> false);
+
+    private final HolidayApiClient delegate;
+    private final CalendarStore store;
+    private final Set<HolidayField> decodedFields;
+    private final Executor writer;
+    private final Clock clock;
+
+    /**
+     * @param decodedFields optional fields the delegate decodes, stored with every calendar
+     */
+    public PersistentHolidayApiClient(HolidayApiClient delegate, CalendarStore store, Set<HolidayField> decodedFields) {
+        this(delegate, store, decodedFields, newWriter(), Clock.systemDefaultZone());
+    }
+
+    PersistentHolidayApiClient(HolidayApiClient delegate, CalendarStore store, Set<HolidayField> decodedFields,
+                               Executor writer, Clock clock) {
+        this.delegate = delegate;
+        this.store = store;
+        this.decodedFields = decodedFields;
+        this.writer = writer;
+        this.clock = clock;
+    }
+
+    /**
+     * Fetches past-year calendars upstream instead of from the store, and writes them through. Only
+     * calls started while {@code call} runs on this thread are affected.
+     */
+    public static <T> T bypassingStore(Supplier<T> call) {
+        boolean previous = BYPASSING_STORE.get();
+        BYPASSING_STORE.set(true);
+        try {
+            return call.get();
+        } finally {
+            BYPASSING_STORE.set(previous);
+        }
+    }
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
+        CalendarKey key = new CalendarKey(year, countryCode);
+        Optional<Holiday[]> stored = servedFromStore(key) ? loadComplete(key) : Optional.empty();
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        try {
+            return saved(key, delegate.fetchHolidaysByCountry(year, countryCode));
+        } catch (RuntimeException e) {
+            return fallback(key, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        CalendarKey key = new CalendarKey(year, countryCode);
+        Optional<Holiday[]> stored = servedFromStore(key) ? loadComplete(key) : Optional.empty();
+        if (stored.isPresent()) {
+            return CompletableFuture.completedFuture(stored.get());
+        }
+
+        CompletableFuture<Holiday[]> upstream;
+        try {
+            upstream = delegate.fetchHolidaysByCountryAsync(year, countryCode);
+        } catch (RuntimeException e) {
+            upstream = CompletableFuture.failedFuture(e);
+        }
+        return upstream.handle((holidays, error) -> error == null
+                ? saved(key, holidays)
+                : fallback(key, unwrap(error)));
+    }
+
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        return delegate.fetchAvailableCountryCodes();
+    }
+
+    private Holiday[] saved(CalendarKey key, Holiday[] holidays) {
+        if (holidays != null) {
+            try {
+                writer.execute(() -> save(key, holidays));
+            } catch (RejectedExecutionException e) {
+                log.warn("Calendar store is behind, not storing calendar for country {} in year {}",
+                        key.countryCode(), key.year());
+            }
+        }
+        return holidays;
+    }
+
+    private void save(CalendarKey key, Holiday[] holidays) {
+        try {
+            store.save(key, holidays, decodedFields);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store calendar for country {} in year {}", key.countryCode(), key.year(), e);
+        }
+    }
+
+    /**
+     * The stored calendar if it has every field decoded now, so it can stand in for a fetch.
+     */
+    private Optional<Holiday[]> loadComplete(CalendarKey key) {
+        return store.load(key)
+                .filter(stored -> stored.hasFields(decodedFields))
+                .map(StoredCalendar::holidays);
+    }
+
+    /**
+     * Serves the stored calendar when the upstream fails, even one decoded with fewer fields.
+     */
+    private Holiday[] fallback(CalendarKey key, Throwable error) {
+        Optional<StoredCalendar> stored = store.load(key);
+        if (stored.isPresent()) {
+            log.warn("Upstream failed for country {} in year {}, serving stored calendar: {}",
+                    key.countryCode(), key.year(), error.toString());
+            return stored.get().holidays();
+        }
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new HolidayApiException("Failed to fetch holidays for country: " + key.countryCode(), error);
+    }
+
+    private boolean servedFromStore(CalendarKey key) {
+        return key.year() < Year.now(clock).getValue() && !BYPASSING_STORE.get();
+    }
+
+    private static Executor newWriter() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("holiday-store-writer-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(MAX_PENDING_WRITES), threadFactory);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,115 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps outgoing calls within a request budget, so bursts of traffic do not get us throttled by
+ * the upstream.
+ * <p>
+ * Every call takes a permit from a {@link TokenBucketRateLimiter} first. Interactive calls are
+ * served before background ones such as cache refreshes and the startup warm-up, and each
+ * priority has its own maximum wait; calls that would wait longer fail fast with an
+ * {@link com.accenture.holidays.domain.exception.UpstreamUnavailableException}. Waiting does not
+ * block a thread on the non-blocking path. Wait times, rejections and the queue length are
+ * exported as metrics.
+ */
+public class RateLimitedHolidayApiClient implements HolidayApiClient, AutoCloseable {
+
+    private final HolidayApiClient delegate;
+    private final HolidayApiProperties.RateLimit properties;
+    private final ScheduledExecutorService scheduler;
+    private final TokenBucketRateLimiter limiter;
+    private final Map<UpstreamPriority, Timer> waitTimers = new EnumMap<>(UpstreamPriority.class);
+    private final Map<UpstreamPriority, Counter> rejections = new EnumMap<>(UpstreamPriority.class);
+
+    public RateLimitedHolidayApiClient(HolidayApiClient delegate, HolidayApiProperties.RateLimit properties,
+                                       MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("holiday-api-limiter-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.limiter = new TokenBucketRateLimiter(properties.getPermitsPerSecond(), properties.getBurst(),
+                properties.getMaxQueued(), System::nanoTime, scheduler);
+
+        for (UpstreamPriority priority : UpstreamPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            waitTimers.put(priority, Timer.builder("holiday.upstream.limiter.wait")
+                    .description("Time upstream calls waited for a rate limiter permit")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            rejections.put(priority, Counter.builder("holiday.upstream.limiter.rejected")
+                    .description("Upstream calls rejected by the rate limiter")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("holiday.upstream.limiter.queued", limiter, TokenBucketRateLimiter::queued)
+                .description("Upstream calls waiting for a rate limiter permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
+        awaitPermit();
+        return delegate.fetchHolidaysByCountry(year, countryCode);
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        return acquire().thenCompose(granted -> delegate.fetchHolidaysByCountryAsync(year, countryCode));
+    }
+
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        awaitPermit();
+        return delegate.fetchAvailableCountryCodes();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void awaitPermit() {
+        try {
+            acquire().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Void> acquire() {
+        UpstreamPriority priority = UpstreamPriority.current();
+        long maxWait = (priority == UpstreamPriority.BACKGROUND
+                ? properties.getBackgroundMaxWait()
+                : properties.getMaxWait()).toNanos();
+        long start = System.nanoTime();
+        return limiter.acquire(priority, maxWait).whenComplete((granted, error) -> {
+            if (error == null) {
+                waitTimers.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } else {
+                rejections.get(priority).increment();
+            }
+        });
+    }
+}
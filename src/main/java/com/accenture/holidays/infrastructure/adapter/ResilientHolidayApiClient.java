@@ -0,0 +1,171 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Protects the service from a degraded upstream.
+ * <p>
+ * Every call goes through a retry, a circuit breaker and a bulkhead, outermost first. Only 5xx
+ * responses and I/O errors such as timeouts are retried, with jittered exponential backoff, and
+ * count as failures for the circuit breaker; 4xx responses mean the upstream is healthy and pass
+ * through untouched. An open circuit or a full bulkhead fails the call immediately. Whatever
+ * still fails because of the upstream is reported as {@link UpstreamUnavailableException}, so the
+ * layers above can fall back to stored calendars.
+ */
+@Slf4j
+public class ResilientHolidayApiClient implements HolidayApiClient, AutoCloseable {
+
+    private final HolidayApiClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final ScheduledExecutorService retryScheduler;
+
+    public ResilientHolidayApiClient(HolidayApiClient delegate, HolidayApiProperties.Resilience properties) {
+        this.delegate = delegate;
+        this.circuitBreaker = CircuitBreaker.of("holidayApi", circuitBreakerConfig(properties.getCircuitBreaker()));
+        this.bulkhead = Bulkhead.of("holidayApi", bulkheadConfig(properties.getBulkhead()));
+        this.retry = Retry.of("holidayApi", retryConfig(properties.getRetry()));
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("holiday-api-retry-");
+        threadFactory.setDaemon(true);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Holiday API circuit breaker {}", event.getStateTransition()));
+    }
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) throws HolidayApiException {
+        Supplier<Holiday[]> call = () -> delegate.fetchHolidaysByCountry(year, countryCode);
+        try {
+            return Retry.decorateSupplier(retry,
+                    CircuitBreaker.decorateSupplier(circuitBreaker,
+                            Bulkhead.decorateSupplier(bulkhead, call))).get();
+        } catch (RuntimeException e) {
+            throw translate("holidays for country: " + countryCode, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        // Retries run on the retry scheduler, so every attempt gets the priority of the original call
+        UpstreamPriority priority = UpstreamPriority.current();
+        Supplier<CompletionStage<Holiday[]>> call = () -> UpstreamPriority.with(priority,
+                () -> delegate.fetchHolidaysByCountryAsync(year, countryCode));
+        return Retry.decorateCompletionStage(retry, retryScheduler,
+                        CircuitBreaker.decorateCompletionStage(circuitBreaker,
+                                Bulkhead.decorateCompletionStage(bulkhead, call)))
+                .get()
+                .toCompletableFuture()
+                .handle((holidays, error) -> {
+                    if (error != null) {
+                        throw translate("holidays for country: " + countryCode, unwrap(error));
+                    }
+                    return holidays;
+                });
+    }
+
+    @Override
+    public List<String> fetchAvailableCountryCodes() throws HolidayApiException {
+        Supplier<List<String>> call = delegate::fetchAvailableCountryCodes;
+        try {
+            return Retry.decorateSupplier(retry,
+                    CircuitBreaker.decorateSupplier(circuitBreaker,
+                            Bulkhead.decorateSupplier(bulkhead, call))).get();
+        } catch (RuntimeException e) {
+            throw translate("available countries", e);
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void close() {
+        retryScheduler.shutdownNow();
+    }
+
+    private static RuntimeException translate(String subject, Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            return new UpstreamUnavailableException("Holiday API circuit is open", error);
+        }
+        if (error instanceof BulkheadFullException) {
+            return new UpstreamUnavailableException("Too many concurrent calls to the holiday API", error);
+        }
+        if (isUpstreamFailure(error)) {
+            return new UpstreamUnavailableException(
+                    "Holiday API is unavailable, failed to fetch " + subject, error);
+        }
+        return error instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(error);
+    }
+
+    /**
+     * 5xx responses and I/O errors: worth retrying a GET for, and a sign of upstream trouble.
+     */
+    private static boolean isUpstreamFailure(Throwable error) {
+        Throwable cause = unwrap(error);
+        return cause instanceof HttpServerErrorException || cause instanceof ResourceAccessException;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(HolidayApiProperties.Resilience.CircuitBreaker properties) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDuration())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .waitDurationInOpenState(properties.getWaitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getHalfOpenCalls())
+                .recordException(ResilientHolidayApiClient::isUpstreamFailure)
+                // Rate limiter rejections never reached the upstream: neither a failure nor a success
+                .ignoreExceptions(UpstreamUnavailableException.class)
+                .build();
+    }
+
+    private static BulkheadConfig bulkheadConfig(HolidayApiProperties.Resilience.Bulkhead properties) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWait())
+                .build();
+    }
+
+    private static RetryConfig retryConfig(HolidayApiProperties.Resilience.Retry properties) {
+        return RetryConfig.custom()
+                .maxAttempts(properties.getMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        properties.getInitialBackoff(), properties.getBackoffMultiplier(), properties.getJitter()))
+                .retryOnException(ResilientHolidayApiClient::isUpstreamFailure)
+                .build();
+    }
+}
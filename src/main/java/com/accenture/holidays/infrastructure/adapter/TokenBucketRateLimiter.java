@@ -0,0 +1,145 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket with a strict-priority wait queue per {@link UpstreamPriority}.
+ * <p>
+ * A permit is granted immediately while tokens are left and nobody of the same or a higher
+ * priority is waiting. Otherwise the caller is queued without blocking a thread and granted a
+ * permit as soon as tokens are refilled, interactive callers first. A caller is rejected right
+ * away when the wait it can expect already exceeds its maximum wait, and dropped from the queue
+ * when higher priority traffic kept it waiting past that.
+ */
+final class TokenBucketRateLimiter {
+
+    private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final int maxQueued;
+    private final LongSupplier nanoTime;
+    private final ScheduledExecutorService scheduler;
+    private final List<Deque<Waiter>> queues = new ArrayList<>();
+    private double tokens;
+    private long refilledAt;
+    private boolean drainScheduled;
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxQueued,
+                           LongSupplier nanoTime, ScheduledExecutorService scheduler) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.maxQueued = maxQueued;
+        this.nanoTime = nanoTime;
+        this.scheduler = scheduler;
+        for (int i = 0; i < UpstreamPriority.values().length; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+        this.tokens = burst;
+        this.refilledAt = nanoTime.getAsLong();
+    }
+
+    /**
+     * A future completed once a permit is granted, or failed with {@link UpstreamUnavailableException}
+     * when it cannot be granted within {@code maxWaitNanos}.
+     */
+    synchronized CompletableFuture<Void> acquire(UpstreamPriority priority, long maxWaitNanos) {
+        long now = nanoTime.getAsLong();
+        refill(now);
+        int ahead = waitingAhead(priority);
+        if (ahead == 0 && tokens >= 1) {
+            tokens -= 1;
+            return GRANTED;
+        }
+
+        double expectedWait = (ahead + 1 - tokens) / permitsPerNano;
+        if (expectedWait > maxWaitNanos || queued() >= maxQueued) {
+            return CompletableFuture.failedFuture(rejected());
+        }
+        Waiter waiter = new Waiter(now + maxWaitNanos);
+        queues.get(priority.ordinal()).add(waiter);
+        scheduleDrain();
+        return waiter.permit;
+    }
+
+    synchronized int queued() {
+        int queued = 0;
+        for (Deque<Waiter> queue : queues) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> expired = new ArrayList<>();
+        synchronized (this) {
+            drainScheduled = false;
+            long now = nanoTime.getAsLong();
+            refill(now);
+            for (Deque<Waiter> queue : queues) {
+                while (!queue.isEmpty()) {
+                    Waiter waiter = queue.peek();
+                    if (now - waiter.deadline > 0) {
+                        expired.add(queue.poll());
+                    } else if (tokens >= 1) {
+                        tokens -= 1;
+                        granted.add(queue.poll());
+                    } else {
+                        break;
+                    }
+                }
+            }
+            if (queued() > 0) {
+                scheduleDrain();
+            }
+        }
+        granted.forEach(waiter -> waiter.permit.complete(null));
+        expired.forEach(waiter -> waiter.permit.completeExceptionally(rejected()));
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+    }
+
+    private int waitingAhead(UpstreamPriority priority) {
+        int ahead = 0;
+        for (int i = 0; i <= priority.ordinal(); i++) {
+            ahead += queues.get(i).size();
+        }
+        return ahead;
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        long delay = (long) Math.ceil(Math.max(0, 1 - tokens) / permitsPerNano);
+        scheduler.schedule(this::drain, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private static UpstreamUnavailableException rejected() {
+        return new UpstreamUnavailableException("Upstream request budget exhausted", null);
+    }
+
+    private static final class Waiter {
+
+        private final long deadline;
+        private final CompletableFuture<Void> permit = new CompletableFuture<>();
+
+        private Waiter(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
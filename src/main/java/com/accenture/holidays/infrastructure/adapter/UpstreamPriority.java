@@ -0,0 +1,45 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority of an upstream call under rate limiting. Calls are interactive unless they are started
+ * inside {@link #background(Supplier)}, as cache refreshes and the startup warm-up do. The priority
+ * is bound to the thread, so decorators that move a call to another thread carry it over with
+ * {@link #with(UpstreamPriority, Supplier)}.
+ */
+public enum UpstreamPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<UpstreamPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    /**
+     * Priority of calls started on the current thread.
+     */
+    public static UpstreamPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Starts upstream calls with background priority. Only calls started while {@code call} runs on
+     * this thread are affected, not work it hands over to other threads.
+     */
+    public static <T> T background(Supplier<T> call) {
+        return with(BACKGROUND, call);
+    }
+
+    /**
+     * Starts upstream calls with the given priority, for work that continues a call on another
+     * thread, such as a retry, with the priority captured when the call was made.
+     */
+    public static <T> T with(UpstreamPriority priority, Supplier<T> call) {
+        UpstreamPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
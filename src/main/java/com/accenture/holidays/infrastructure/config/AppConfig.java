@@ -1,13 +1,105 @@
 package com.accenture.holidays.infrastructure.config;
 
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.infrastructure.adapter.CachingHolidayApiClient;
+import com.accenture.holidays.infrastructure.adapter.CoalescingHolidayApiClient;
+import com.accenture.holidays.infrastructure.adapter.HolidayApiClientImpl;
+import com.accenture.holidays.infrastructure.adapter.HolidayJsonDecoder;
+import com.accenture.holidays.infrastructure.adapter.ObservedHolidayApiClient;
+import com.accenture.holidays.infrastructure.adapter.PersistentHolidayApiClient;
+import com.accenture.holidays.infrastructure.adapter.RateLimitedHolidayApiClient;
+import com.accenture.holidays.infrastructure.adapter.ResilientHolidayApiClient;
+import com.accenture.holidays.infrastructure.persistence.CalendarStore;
+import com.accenture.holidays.infrastructure.persistence.FileCalendarStore;
+import com.accenture.holidays.infrastructure.persistence.MappedCalendarStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+
 @Configuration
 public class AppConfig {
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient holidayHttpClient(HolidayApiProperties apiProperties) {
+        return HolidayHttpClientFactory.create(apiProperties.getHttp());
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient holidayHttpClient, HolidayApiProperties apiProperties) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(holidayHttpClient);
+        requestFactory.setReadTimeout(apiProperties.getHttp().getReadTimeout());
+        return new RestTemplate(requestFactory);
+    }
+
+    @Bean
+    public HolidayJsonDecoder holidayJsonDecoder(ObjectMapper objectMapper, HolidayApiProperties apiProperties) {
+        return new HolidayJsonDecoder(objectMapper.getFactory(), apiProperties.getHttp().getDecodedFields());
+    }
+
+    /**
+     * Exported as the {@code executor.*} metrics tagged {@code name=holidayExecutor}, including the
+     * queue depth; the factory adds {@code holiday.executor.caller.runs} for tasks the saturated pool
+     * handed back.
+     */
+    @Bean(name = "holidayExecutor", destroyMethod = "shutdown")
+    public ExecutorService holidayExecutor(HolidayApiProperties apiProperties, MeterRegistry meterRegistry) {
+        ExecutorService executor = HolidayExecutorFactory.create(apiProperties.getExecutor(), meterRegistry);
+        new ExecutorServiceMetrics(executor, "holidayExecutor", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "holiday.api.store", name = "enabled", havingValue = "true")
+    public CalendarStore calendarStore(HolidayApiProperties apiProperties, ObjectMapper objectMapper) {
+        HolidayApiProperties.Store store = apiProperties.getStore();
+        return switch (store.getFormat()) {
+            case BINARY -> new MappedCalendarStore(store.getDirectory(), store.isPreload());
+            case JSON -> new FileCalendarStore(store.getDirectory(), objectMapper, store.isPreload());
+        };
+    }
+
+    /**
+     * The gateway used by the application: memory cache, then single-flight coalescing, then the
+     * optional on-disk store, then the upstream fetch observation, then retry, circuit breaker and
+     * bulkhead, then the rate limiter in front of the external API.
+     */
+    @Bean
+    @Primary
+    public HolidayApiClient holidayApiClient(HolidayApiClientImpl upstreamClient, HolidayApiProperties apiProperties,
+                                             ObjectProvider<CalendarStore> calendarStore,
+                                             MeterRegistry meterRegistry,
+                                             ObservationRegistry observationRegistry) {
+        HolidayApiClient client = upstreamClient;
+        if (apiProperties.getRateLimit().isEnabled()) {
+            client = new RateLimitedHolidayApiClient(client, apiProperties.getRateLimit(), meterRegistry);
+        }
+        client = new ResilientHolidayApiClient(client, apiProperties.getResilience());
+        client = new ObservedHolidayApiClient(client, observationRegistry,
+                apiProperties.getMetrics().getTaggedCountries());
+        CalendarStore store = calendarStore.getIfAvailable();
+        if (store != null) {
+            client = new PersistentHolidayApiClient(client, store, apiProperties.getHttp().getDecodedFields());
+        }
+        CoalescingHolidayApiClient coalescing = new CoalescingHolidayApiClient(client);
+        Gauge.builder("holiday.upstream.pending", coalescing, CoalescingHolidayApiClient::inFlightCount)
+                .description("Distinct calendars currently being fetched below the memory cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("holiday.upstream.coalesced", coalescing, CoalescingHolidayApiClient::coalescedCount)
+                .description("Fetches that joined one already in flight for the same calendar")
+                .register(meterRegistry);
+        return new CachingHolidayApiClient(coalescing, apiProperties.getCache());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package com.accenture.holidays.infrastructure.config;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link HttpClient} that lets at most {@code maxConcurrentRequests} requests be in flight at
+ * once, blocking and non-blocking ones alike. A request holds its slot from being sent until its
+ * response completes, which for streamed bodies is when the headers arrived. Requests over the
+ * limit wait in arrival order without holding a thread on the non-blocking path.
+ */
+final class BoundedHttpClient extends HttpClient {
+
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+
+    private final HttpClient delegate;
+    private final ArrayDeque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+    private int available;
+
+    BoundedHttpClient(HttpClient delegate, int maxConcurrentRequests) {
+        this.delegate = delegate;
+        this.available = Math.max(1, maxConcurrentRequests);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        CompletableFuture<Void> permit = acquire();
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false)) {
+                release();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        try {
+            return delegate.send(request, responseBodyHandler);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                                            HttpResponse.BodyHandler<T> responseBodyHandler,
+                                                            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        CompletableFuture<HttpResponse<T>> response = new CompletableFuture<>();
+        CompletableFuture<Void> permit = acquire();
+        // A caller that gives up while waiting frees its place in the queue
+        response.whenComplete((ignored, error) -> permit.cancel(false));
+        permit.thenRun(() -> {
+            if (response.isDone()) {
+                release();
+                return;
+            }
+            CompletableFuture<HttpResponse<T>> call;
+            try {
+                call = delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler);
+            } catch (RuntimeException e) {
+                release();
+                response.completeExceptionally(e);
+                return;
+            }
+            call.whenComplete((result, error) -> {
+                release();
+                if (error != null) {
+                    response.completeExceptionally(error);
+                } else {
+                    response.complete(result);
+                }
+            });
+        });
+        return response;
+    }
+
+    /**
+     * Number of requests waiting for a free slot.
+     */
+    int waitingCount() {
+        synchronized (waiting) {
+            return waiting.size();
+        }
+    }
+
+    private CompletableFuture<Void> acquire() {
+        synchronized (waiting) {
+            if (available > 0) {
+                available--;
+                return ACQUIRED;
+            }
+            CompletableFuture<Void> permit = new CompletableFuture<>();
+            waiting.add(permit);
+            return permit;
+        }
+    }
+
+    /**
+     * Hands the slot to the longest waiting request that has not given up, or frees it.
+     */
+    private void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (waiting) {
+                next = waiting.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    @Override
+    public WebSocket.Builder newWebSocketBuilder() {
+        return delegate.newWebSocketBuilder();
+    }
+}
@@ -5,11 +5,205 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 @Setter
 @Getter
 @Configuration
 @ConfigurationProperties(prefix = "holiday.api")
 public class HolidayApiProperties {
     private String baseUrl;
+    private Cache cache = new Cache();
+    private Executor executor = new Executor();
+    private Http http = new Http();
+    private Store store = new Store();
+    private WarmUp warmUp = new WarmUp();
+    private Resilience resilience = new Resilience();
+    private RateLimit rateLimit = new RateLimit();
+    private Metrics metrics = new Metrics();
+
+    @Setter
+    @Getter
+    public static class Cache {
+        /** Maximum number of (year, country) calendars kept in memory. */
+        private long maximumSize = 10_000;
+        /** Time to live for calendars of past years, which practically never change. */
+        private Duration pastYearTtl = Duration.ofDays(7);
+        /** Time to live for calendars of the current and future years. */
+        private Duration currentYearTtl = Duration.ofHours(6);
+        private Refresh refresh = new Refresh();
+
+        @Setter
+        @Getter
+        public static class Refresh {
+            /** Re-fetch calendars that are being read in the background, before they expire. */
+            private boolean enabled = true;
+            /** Age after which a calendar of a past year is refreshed. */
+            private Duration pastYear = Duration.ofDays(1);
+            /** Age after which a calendar of the current year is refreshed. */
+            private Duration currentYear = Duration.ofHours(1);
+            /** Age after which a calendar of a future year is refreshed. */
+            private Duration futureYear = Duration.ofHours(3);
+            /** Delay before retrying a failed refresh; the cached calendar is served meanwhile. */
+            private Duration retryInterval = Duration.ofMinutes(1);
+            /** How often the cache is scanned for calendars due for a refresh. */
+            private Duration scanInterval = Duration.ofSeconds(30);
+            /** Maximum number of refreshes running against the upstream at the same time. */
+            private int maxInFlight = 4;
+        }
+    }
+
+    @Setter
+    @Getter
+    public static class Executor {
+        /** PLATFORM for a bounded thread pool, VIRTUAL for a virtual-thread-per-task executor (Java 21+). */
+        private ExecutorMode mode = ExecutorMode.PLATFORM;
+        private int corePoolSize = 16;
+        private int maxPoolSize = 64;
+        /** Tasks queued once all core threads are busy; beyond this the pool grows up to maxPoolSize. */
+        private int queueCapacity = 1_000;
+        private Duration keepAlive = Duration.ofSeconds(60);
+    }
+
+    @Setter
+    @Getter
+    public static class Http {
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        /** Maximum time to wait for the upstream response once the request has been sent. */
+        private Duration readTimeout = Duration.ofSeconds(5);
+        /** Maximum number of upstream requests in flight at once; further requests wait for a free slot. */
+        private int maxConcurrentRequests = 64;
+        /** Prefer HTTP/2, falling back to HTTP/1.1 when the upstream does not support it. */
+        private boolean http2 = true;
+        /** Revalidate previously fetched calendars with If-None-Match/If-Modified-Since instead of refetching them. */
+        private boolean conditionalRequests = true;
+        /** Optional holiday fields decoded besides date, localName and name; all by default, as /most-recent returns them. */
+        private Set<HolidayField> decodedFields = EnumSet.allOf(HolidayField.class);
+    }
+
+    @Setter
+    @Getter
+    public static class Store {
+        /** Persist fetched calendars on disk so they survive restarts and upstream outages. */
+        private boolean enabled = false;
+        /** BINARY for a single compact memory-mapped file, JSON for one readable file per calendar. */
+        private StoreFormat format = StoreFormat.BINARY;
+        private Path directory = Path.of("data", "calendars");
+        /** Read all stored calendars at startup instead of on first access. */
+        private boolean preload = false;
+    }
+
+    @Setter
+    @Getter
+    public static class WarmUp {
+        /** Fetch a hot set of calendars at startup; readiness stays OUT_OF_SERVICE until done. */
+        private boolean enabled = false;
+        /** Warm every country the upstream lists under /AvailableCountries instead of {@link #countries}. */
+        private boolean allCountries = false;
+        private List<String> countries = new ArrayList<>();
+        /** Years before the current one to warm. */
+        private int yearsBack = 1;
+        /** Years after the current one to warm. */
+        private int yearsAhead = 1;
+        /** Maximum number of calendars fetched at the same time. */
+        private int maxInFlight = 8;
+        /** Upper bound for the whole warm-up, after which readiness reports UP regardless. */
+        private Duration timeout = Duration.ofSeconds(60);
+    }
+
+    @Setter
+    @Getter
+    public static class Resilience {
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+        private Bulkhead bulkhead = new Bulkhead();
+        private Retry retry = new Retry();
+
+        @Setter
+        @Getter
+        public static class CircuitBreaker {
+            /** Number of most recent upstream calls the failure rate is computed over. */
+            private int slidingWindowSize = 20;
+            /** Calls needed in the window before the failure rate is evaluated. */
+            private int minimumNumberOfCalls = 10;
+            /** Failure rate in percent at which the circuit opens. */
+            private float failureRateThreshold = 50;
+            /** Calls slower than this count as slow. */
+            private Duration slowCallDuration = Duration.ofSeconds(3);
+            /** Slow call rate in percent at which the circuit opens. */
+            private float slowCallRateThreshold = 80;
+            /** How long the circuit stays open before probing the upstream again. */
+            private Duration waitInOpenState = Duration.ofSeconds(10);
+            /** Probe calls let through while half-open. */
+            private int halfOpenCalls = 3;
+        }
+
+        @Setter
+        @Getter
+        public static class Bulkhead {
+            /** Maximum number of upstream calls in flight. */
+            private int maxConcurrentCalls = 64;
+            /** How long a call may wait for a free slot before it is rejected. */
+            private Duration maxWait = Duration.ofMillis(50);
+        }
+
+        @Setter
+        @Getter
+        public static class Retry {
+            /** Attempts per call including the first one; only 5xx and I/O errors are retried. */
+            private int maxAttempts = 3;
+            private Duration initialBackoff = Duration.ofMillis(100);
+            private double backoffMultiplier = 2;
+            /** Random spread applied to every backoff, 0.5 means +/- 50%. */
+            private double jitter = 0.5;
+        }
+    }
+
+    @Setter
+    @Getter
+    public static class RateLimit {
+        /** Limit the rate of outgoing upstream calls with a token bucket. */
+        private boolean enabled = true;
+        /** Sustained rate of upstream calls. */
+        private double permitsPerSecond = 50;
+        /** Calls that may be made at once after an idle period. */
+        private int burst = 100;
+        /** Longest an interactive call waits for a permit before it is rejected. */
+        private Duration maxWait = Duration.ofMillis(500);
+        /** Longest a background call (cache refresh, warm-up) waits; interactive calls always go first. */
+        private Duration backgroundMaxWait = Duration.ofSeconds(10);
+        /** Maximum number of calls waiting for a permit. */
+        private int maxQueued = 1_000;
+    }
+
+    @Setter
+    @Getter
+    public static class Metrics {
+        /** Countries tagged by code on upstream metrics; all others share the tag value "other". */
+        private List<String> taggedCountries = new ArrayList<>();
+    }
+
+    public enum ExecutorMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    public enum StoreFormat {
+        BINARY,
+        JSON
+    }
+
+    public enum HolidayField {
+        COUNTRY_CODE,
+        FIXED,
+        GLOBAL,
+        COUNTIES,
+        LAUNCH_YEAR,
+        TYPES
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.accenture.holidays.infrastructure.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates the executor that runs blocking upstream calls, keeping them off the common fork-join pool.
+ * The platform pool exports the tasks it handed back to saturated callers as
+ * {@value #CALLER_RUNS_METRIC}.
+ */
+@Slf4j
+public final class HolidayExecutorFactory {
+
+    static final String THREAD_NAME_PREFIX = "holiday-io-";
+    static final String CALLER_RUNS_METRIC = "holiday.executor.caller.runs";
+
+    private HolidayExecutorFactory() {
+    }
+
+    public static ExecutorService create(HolidayApiProperties.Executor properties, MeterRegistry meterRegistry) {
+        if (properties.getMode() == HolidayApiProperties.ExecutorMode.VIRTUAL) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads require Java 21, falling back to a platform thread pool");
+            }
+        }
+        return platformPool(properties, meterRegistry);
+    }
+
+    private static ExecutorService platformPool(HolidayApiProperties.Executor properties, MeterRegistry meterRegistry) {
+        CountingCallerRunsPolicy callerRuns = new CountingCallerRunsPolicy();
+        FunctionCounter.builder(CALLER_RUNS_METRIC, callerRuns, CountingCallerRunsPolicy::getRejectedCount)
+                .description("Tasks the saturated executor ran on the submitting thread")
+                .register(meterRegistry);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                properties.getCorePoolSize(),
+                Math.max(properties.getCorePoolSize(), properties.getMaxPoolSize()),
+                properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+                callerRuns);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Counts tasks the saturated pool could not accept and runs them on the submitting thread,
+     * which slows producers down instead of failing their requests.
+     */
+    public static final class CountingCallerRunsPolicy implements RejectedExecutionHandler {
+
+        private final LongAdder rejected = new LongAdder();
+        private final RejectedExecutionHandler delegate = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        }
+
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.accenture.holidays.infrastructure.config;
+
+import java.net.http.HttpClient;
+
+/**
+ * Creates the HTTP client used to call the holiday API, for the {@code RestTemplate} and the
+ * non-blocking fetches alike. The JDK client keeps connections alive and reuses them on its own;
+ * this factory bounds how many requests it has in flight.
+ * <p>
+ * How long idle connections are kept is a JVM-wide setting of the JDK client, changed with
+ * {@code -Djdk.httpclient.keepalive.timeout=<seconds>} on the command line, not from here.
+ */
+public final class HolidayHttpClientFactory {
+
+    private HolidayHttpClientFactory() {
+    }
+
+    public static HttpClient create(HolidayApiProperties.Http properties) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        return new BoundedHttpClient(client, properties.getMaxConcurrentRequests());
+    }
+}
@@ -0,0 +1,181 @@
+package com.accenture.holidays.infrastructure.persistence;
+
+import com.accenture.holidays.domain.model.Holiday;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a single calendar.
+ * <p>
+ * Every distinct string of the calendar (names, country code, counties, types) is written once to
+ * a dictionary and referenced by index; dates are stored as epoch days. Decoding reuses one
+ * {@link String} instance per dictionary entry, so repeated values such as type names are shared.
+ * <pre>
+ * short stringCount, { short byteLength, byte[] utf8 } * stringCount
+ * short holidayCount, {
+ *     int epochDay, short localName, short name, short countryCode,
+ *     byte flags, short launchYear,
+ *     short countyCount, short[] counties, short typeCount, short[] types
+ * } * holidayCount
+ * </pre>
+ * String references and array counts use {@value #NULL_REF} for {@code null}. A calendar that does
+ * not fit these fields (a string over 65535 UTF-8 bytes, too many distinct strings, holidays or
+ * array elements, or a launch year outside the {@code short} range) is rejected with an
+ * {@link IllegalArgumentException} rather than written truncated.
+ * <p>
+ * Besides the store, the upstream client keeps the last body of every revalidated calendar in
+ * this form rather than as decoded holidays.
+ */
+public final class CalendarCodec {
+
+    static final int NULL_REF = 0xFFFF;
+
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    private static final int FIXED = 1;
+    private static final int GLOBAL = 1 << 1;
+
+    private CalendarCodec() {
+    }
+
+    public static byte[] encode(Holiday[] holidays) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Holiday holiday : holidays) {
+            intern(dictionary, strings, holiday.getLocalName());
+            intern(dictionary, strings, holiday.getName());
+            intern(dictionary, strings, holiday.getCountryCode());
+            internAll(dictionary, strings, holiday.getCounties());
+            internAll(dictionary, strings, holiday.getTypes());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + holidays.length * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(strings.size());
+            for (String value : strings) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                checkRange(utf8.length, MAX_UNSIGNED_SHORT, "String byte length");
+                out.writeShort(utf8.length);
+                out.write(utf8);
+            }
+
+            checkRange(holidays.length, MAX_UNSIGNED_SHORT, "Holiday count");
+            out.writeShort(holidays.length);
+            for (Holiday holiday : holidays) {
+                out.writeInt((int) holiday.getDate().toEpochDay());
+                out.writeShort(ref(dictionary, holiday.getLocalName()));
+                out.writeShort(ref(dictionary, holiday.getName()));
+                out.writeShort(ref(dictionary, holiday.getCountryCode()));
+                out.writeByte((holiday.isFixed() ? FIXED : 0) | (holiday.isGlobal() ? GLOBAL : 0));
+                if (holiday.getLaunchYear() < Short.MIN_VALUE || holiday.getLaunchYear() > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException("Launch year " + holiday.getLaunchYear() + " is too large to encode");
+                }
+                out.writeShort(holiday.getLaunchYear());
+                writeRefs(out, dictionary, holiday.getCounties());
+                writeRefs(out, dictionary, holiday.getTypes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a calendar starting at the buffer's current position, reading straight from the
+     * (possibly memory-mapped) buffer without copying the record first.
+     */
+    public static Holiday[] decode(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] utf8 = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(utf8);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        Holiday[] holidays = new Holiday[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < holidays.length; i++) {
+            Holiday holiday = new Holiday();
+            holiday.setDate(LocalDate.ofEpochDay(buffer.getInt()));
+            holiday.setLocalName(string(strings, buffer.getShort()));
+            holiday.setName(string(strings, buffer.getShort()));
+            holiday.setCountryCode(string(strings, buffer.getShort()));
+            int flags = buffer.get();
+            holiday.setFixed((flags & FIXED) != 0);
+            holiday.setGlobal((flags & GLOBAL) != 0);
+            holiday.setLaunchYear(buffer.getShort());
+            holiday.setCounties(readRefs(buffer, strings));
+            holiday.setTypes(readRefs(buffer, strings));
+            holidays[i] = holiday;
+        }
+        return holidays;
+    }
+
+    private static void intern(Map<String, Integer> dictionary, List<String> strings, String value) {
+        if (value != null && !dictionary.containsKey(value)) {
+            if (strings.size() >= NULL_REF) {
+                throw new IllegalArgumentException("Calendar has too many distinct strings to encode");
+            }
+            dictionary.put(value, strings.size());
+            strings.add(value);
+        }
+    }
+
+    private static void internAll(Map<String, Integer> dictionary, List<String> strings, String[] values) {
+        if (values != null) {
+            for (String value : values) {
+                intern(dictionary, strings, value);
+            }
+        }
+    }
+
+    private static int ref(Map<String, Integer> dictionary, String value) {
+        return value == null ? NULL_REF : dictionary.get(value);
+    }
+
+    private static void writeRefs(DataOutputStream out, Map<String, Integer> dictionary, String[] values)
+            throws IOException {
+        if (values == null) {
+            out.writeShort(NULL_REF);
+            return;
+        }
+        // NULL_REF marks a null array, so the longest array is one element shorter
+        checkRange(values.length, NULL_REF - 1, "Array length");
+        out.writeShort(values.length);
+        for (String value : values) {
+            out.writeShort(ref(dictionary, value));
+        }
+    }
+
+    private static void checkRange(int value, int max, String field) {
+        if (value > max) {
+            throw new IllegalArgumentException(field + " " + value + " exceeds " + max + " and cannot be encoded");
+        }
+    }
+
+    private static String string(String[] strings, short ref) {
+        int index = ref & 0xFFFF;
+        return index == NULL_REF ? null : strings[index];
+    }
+
+    private static String[] readRefs(ByteBuffer buffer, String[] strings) {
+        int count = buffer.getShort() & 0xFFFF;
+        if (count == NULL_REF) {
+            return null;
+        }
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = string(strings, buffer.getShort());
+        }
+        return values;
+    }
+}
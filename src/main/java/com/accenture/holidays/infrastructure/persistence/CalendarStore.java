@@ -0,0 +1,21 @@
+package com.accenture.holidays.infrastructure.persistence;
+
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Durable storage for fetched holiday calendars, surviving restarts of the service. Every calendar
+ * is stored with the optional fields it was decoded with, so a calendar decoded with fewer fields
+ * than are configured now can be told apart and fetched again.
+ */
+public interface CalendarStore {
+
+    Optional<StoredCalendar> load(CalendarKey key);
+
+    void save(CalendarKey key, Holiday[] holidays, Set<HolidayField> decodedFields);
+
+}
@@ -0,0 +1,134 @@
+package com.accenture.holidays.infrastructure.persistence;
+
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores every calendar as a JSON file {@code <directory>/<year>/<countryCode>.json}, an object
+ * with the holidays and the fields they were decoded with. Files holding a bare array of holidays,
+ * written before the decoded fields were recorded, load as decoded with no optional fields.
+ * <p>
+ * Files are written to a temporary file first and then moved into place, so a crash never leaves
+ * a partially written calendar behind. With {@code preload} enabled all stored calendars are read
+ * into memory at startup, otherwise they are read lazily on first access.
+ */
+@Slf4j
+public class FileCalendarStore implements CalendarStore {
+
+    private static final String EXTENSION = ".json";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final boolean preload;
+    private final ConcurrentMap<CalendarKey, StoredCalendar> preloaded = new ConcurrentHashMap<>();
+
+    public FileCalendarStore(Path directory, ObjectMapper objectMapper, boolean preload) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.preload = preload;
+        if (preload) {
+            preloadAll();
+        }
+    }
+
+    @Override
+    public Optional<StoredCalendar> load(CalendarKey key) {
+        StoredCalendar cached = preloaded.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Path file = pathOf(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode stored = objectMapper.readTree(file.toFile());
+            if (stored.isArray()) {
+                return Optional.of(new StoredCalendar(objectMapper.treeToValue(stored, Holiday[].class), null));
+            }
+            return Optional.of(objectMapper.treeToValue(stored, StoredCalendar.class));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable stored calendar {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(CalendarKey key, Holiday[] holidays, Set<HolidayField> decodedFields) {
+        StoredCalendar calendar = new StoredCalendar(holidays, decodedFields);
+        Path file = pathOf(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key.countryCode(), ".tmp");
+            try {
+                objectMapper.writeValue(temp.toFile(), calendar);
+                moveIntoPlace(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            if (preload) {
+                preloaded.put(key, calendar);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to store calendar for country {} in year {}", key.countryCode(), key.year(), e);
+        }
+    }
+
+    private static void moveIntoPlace(Path temp, Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void preloadAll() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> years = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path yearDirectory : years) {
+                preloadYear(yearDirectory);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to preload stored calendars from {}", directory, e);
+        }
+        log.info("Preloaded {} stored calendars from {}", preloaded.size(), directory);
+    }
+
+    private void preloadYear(Path yearDirectory) throws IOException {
+        int year;
+        try {
+            year = Integer.parseInt(yearDirectory.getFileName().toString());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(yearDirectory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                CalendarKey key = new CalendarKey(year, fileName.substring(0, fileName.length() - EXTENSION.length()));
+                load(key).ifPresent(calendar -> preloaded.put(key, calendar));
+            }
+        }
+    }
+
+    private Path pathOf(CalendarKey key) {
+        return directory.resolve(String.valueOf(key.year())).resolve(key.countryCode() + EXTENSION);
+    }
+}
@@ -0,0 +1,275 @@
+package com.accenture.holidays.infrastructure.persistence;
+
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores all calendars in a single append-only file {@code <directory>/calendars.bin} that is
+ * memory-mapped for reading.
+ * <p>
+ * Each record holds a (year, countryCode, decoded fields) header followed by the calendar in
+ * {@link CalendarCodec} format. At startup only the record headers are scanned to build an in-memory offset index; a
+ * calendar is decoded straight from the mapped pages when it is loaded, so stored calendars take no
+ * heap until they are actually needed. Saving a calendar appends a new record unless the stored
+ * one is byte-for-byte identical and maps only that record, leaving the rest of the file mapped as
+ * it was. A calendar too large for the format is not stored, and superseded records are compacted
+ * away at the next startup once they outweigh the live ones. A record cut short by a crash is
+ * truncated on startup, and a file in an older format is discarded, so its calendars are fetched again.
+ */
+@Slf4j
+public class MappedCalendarStore implements CalendarStore, Closeable {
+
+    static final String FILE_NAME = "calendars.bin";
+
+    /** "HCA2": holiday calendar archive, format version 2, whose records carry their decoded fields. */
+    private static final int MAGIC = 0x48434132;
+    private static final int HEADER_SIZE = Integer.BYTES;
+
+    private final Path file;
+    private final ConcurrentMap<CalendarKey, Slot> index = new ConcurrentHashMap<>();
+    private FileChannel channel;
+    /** The file as mapped at startup; records appended later are mapped on their own. */
+    private MappedByteBuffer mapped;
+
+    public MappedCalendarStore(Path directory, boolean preload) {
+        this.file = directory.resolve(FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+            long staleBytes = open();
+            if (staleBytes > liveBytes()) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open calendar store " + file, e);
+        }
+        if (preload) {
+            mapped.load();
+        }
+        log.info("Opened calendar store {} with {} calendars", file, index.size());
+    }
+
+    @Override
+    public Optional<StoredCalendar> load(CalendarKey key) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredCalendar(CalendarCodec.decode(slot.view()), slot.decodedFields()));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable stored calendar for country {} in year {}", key.countryCode(), key.year(), e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void save(CalendarKey key, Holiday[] holidays, Set<HolidayField> decodedFields) {
+        byte[] payload;
+        try {
+            payload = CalendarCodec.encode(holidays);
+        } catch (IllegalArgumentException e) {
+            log.warn("Not storing calendar for country {} in year {}: {}",
+                    key.countryCode(), key.year(), e.getMessage());
+            return;
+        }
+        Set<HolidayField> fields = EnumSet.noneOf(HolidayField.class);
+        fields.addAll(decodedFields);
+        Slot existing = index.get(key);
+        if (existing != null && existing.decodedFields().equals(fields)
+                && existing.view().equals(ByteBuffer.wrap(payload))) {
+            return;
+        }
+
+        try {
+            long start = channel.size();
+            ByteBuffer record = record(key, fields, payload);
+            int recordLength = record.remaining();
+            long end = start + recordLength;
+            if (end > Integer.MAX_VALUE) {
+                log.warn("Calendar store {} is full, not storing country {} in year {}",
+                        file, key.countryCode(), key.year());
+                return;
+            }
+            long position = start;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+            MappedByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, start, recordLength);
+            index.put(key, new Slot(tail, recordLength - payload.length, payload.length, fields));
+        } catch (IOException e) {
+            log.warn("Failed to store calendar for country {} in year {}", key.countryCode(), key.year(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Opens the file and indexes its records.
+     *
+     * @return the number of bytes taken by superseded records
+     */
+    private long open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < HEADER_SIZE || readMagic() != MAGIC) {
+            if (channel.size() > 0) {
+                log.warn("Discarding calendar store {} with an unknown format", file);
+            }
+            channel.truncate(0);
+            channel.write(ByteBuffer.allocate(HEADER_SIZE).putInt(0, MAGIC), 0);
+        }
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        buffer.position(HEADER_SIZE);
+        long staleBytes = 0;
+        int end = HEADER_SIZE;
+        while (buffer.hasRemaining()) {
+            try {
+                int year = buffer.getInt();
+                byte[] countryCode = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(countryCode);
+                Set<HolidayField> decodedFields = fieldsOf(buffer.get());
+                int length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    break;
+                }
+                Slot previous = index.put(new CalendarKey(year, new String(countryCode, StandardCharsets.US_ASCII)),
+                        new Slot(buffer, buffer.position(), length, decodedFields));
+                if (previous != null) {
+                    staleBytes += previous.length();
+                }
+                buffer.position(buffer.position() + length);
+                end = buffer.position();
+            } catch (RuntimeException e) {
+                break;
+            }
+        }
+
+        if (end < channel.size()) {
+            log.warn("Truncating incomplete record at the end of calendar store {}", file);
+            channel.truncate(end);
+            // Index again against a mapping that does not reach past the new end of the file
+            channel.close();
+            index.clear();
+            return open();
+        }
+        mapped = buffer;
+        return staleBytes;
+    }
+
+    /**
+     * Rewrites the file with only the latest record of every calendar.
+     */
+    private void compact() throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                out.write(ByteBuffer.allocate(HEADER_SIZE).putInt(0, MAGIC));
+                for (Map.Entry<CalendarKey, Slot> entry : index.entrySet()) {
+                    byte[] payload = new byte[entry.getValue().length()];
+                    entry.getValue().view().get(payload);
+                    ByteBuffer record = record(entry.getKey(), entry.getValue().decodedFields(), payload);
+                    while (record.hasRemaining()) {
+                        out.write(record);
+                    }
+                }
+                out.force(true);
+            }
+            channel.close();
+            moveIntoPlace(temp, file);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        index.clear();
+        open();
+        log.info("Compacted calendar store {}", file);
+    }
+
+    private long liveBytes() {
+        return index.values().stream().mapToLong(Slot::length).sum();
+    }
+
+    private int readMagic() throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(magic, 0);
+        return magic.getInt(0);
+    }
+
+    private static ByteBuffer record(CalendarKey key, Set<HolidayField> decodedFields, byte[] payload) {
+        byte[] countryCode = key.countryCode().getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + Short.BYTES + countryCode.length
+                + Byte.BYTES + Integer.BYTES + payload.length);
+        record.putInt(key.year())
+                .putShort((short) countryCode.length)
+                .put(countryCode)
+                .put(mask(decodedFields))
+                .putInt(payload.length)
+                .put(payload)
+                .flip();
+        return record;
+    }
+
+    /**
+     * One bit per field, by ordinal; the enum has fewer fields than a byte has bits.
+     */
+    private static byte mask(Set<HolidayField> decodedFields) {
+        int mask = 0;
+        for (HolidayField field : decodedFields) {
+            mask |= 1 << field.ordinal();
+        }
+        return (byte) mask;
+    }
+
+    private static Set<HolidayField> fieldsOf(byte mask) {
+        Set<HolidayField> fields = EnumSet.noneOf(HolidayField.class);
+        for (HolidayField field : HolidayField.values()) {
+            if ((mask & 1 << field.ordinal()) != 0) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static void moveIntoPlace(Path temp, Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Position and length of a calendar's encoded payload within the mapping that holds it: the
+     * one made at startup, or the one made for the record when it was appended; and the fields the
+     * calendar was decoded with.
+     */
+    private record Slot(MappedByteBuffer mapping, int offset, int length, Set<HolidayField> decodedFields) {
+
+        ByteBuffer view() {
+            return mapping.slice(offset, length);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.accenture.holidays.infrastructure.persistence;
+
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A stored calendar together with the optional fields it was decoded with. Fields outside
+ * {@code decodedFields} were never read from the upstream response and only hold their defaults.
+ */
+public record StoredCalendar(
+        Holiday[] holidays,
+        Set<HolidayField> decodedFields
+){
+    public StoredCalendar {
+        decodedFields = decodedFields == null || decodedFields.isEmpty()
+                ? EnumSet.noneOf(HolidayField.class)
+                : EnumSet.copyOf(decodedFields);
+    }
+
+    /**
+     * Whether every field in {@code fields} was decoded, so the calendar can stand in for a fresh fetch.
+     */
+    public boolean hasFields(Set<HolidayField> fields) {
+        return decodedFields.containsAll(fields);
+    }
+}
@@ -0,0 +1,142 @@
+package com.accenture.holidays.infrastructure.warmup;
+
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.infrastructure.adapter.UpstreamPriority;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches a configured hot set of calendars through the gateway right after startup, so they are
+ * in memory before the first requests arrive.
+ * <p>
+ * The warm-up runs in the background with bounded concurrency. As a health indicator that belongs
+ * to the readiness group it reports OUT_OF_SERVICE until every calendar has been fetched, failed,
+ * or the warm-up timed out, so a load balancer only routes traffic once the hot set is loaded.
+ * Failed calendars are reported but do not hold readiness back.
+ */
+@Slf4j
+@Component("calendarWarmUp")
+public class CalendarWarmUp implements HealthIndicator {
+
+    private final HolidayApiClient holidayApiClient;
+    private final HolidayApiProperties.WarmUp properties;
+    private final Clock clock;
+    private final AtomicInteger warmed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile int total;
+    private volatile boolean finished;
+
+    @Autowired
+    public CalendarWarmUp(HolidayApiClient holidayApiClient, HolidayApiProperties apiProperties) {
+        this(holidayApiClient, apiProperties.getWarmUp(), Clock.systemDefaultZone());
+    }
+
+    CalendarWarmUp(HolidayApiClient holidayApiClient, HolidayApiProperties.WarmUp properties, Clock clock) {
+        this.holidayApiClient = holidayApiClient;
+        this.properties = properties;
+        this.clock = clock;
+        this.finished = !properties.isEnabled();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("holiday-warm-up-");
+        threadFactory.setDaemon(true);
+        threadFactory.newThread(this::warmUp).start();
+    }
+
+    @Override
+    public Health health() {
+        if (!properties.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        Health.Builder builder = finished ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("total", total)
+                .withDetail("warmed", warmed.get())
+                .withDetail("failed", failed.get())
+                .build();
+    }
+
+    /**
+     * Fetches every calendar of the hot set and returns once all of them completed or the timeout passed.
+     */
+    void warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeout().toNanos();
+        try {
+            List<CalendarKey> keys = hotSet();
+            total = keys.size();
+            log.info("Warming up {} calendars", keys.size());
+
+            Semaphore permits = new Semaphore(properties.getMaxInFlight());
+            for (CalendarKey key : keys) {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                fetch(key).whenComplete((holidays, error) -> {
+                    (error == null ? warmed : failed).incrementAndGet();
+                    permits.release();
+                });
+            }
+            permits.tryAcquire(properties.getMaxInFlight(), deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Calendar warm-up failed", e);
+        } finally {
+            finished = true;
+            log.info("Warmed up {} of {} calendars in {} ms, {} failed", warmed.get(), total,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed.get());
+        }
+    }
+
+    private List<CalendarKey> hotSet() {
+        List<String> countryCodes = properties.isAllCountries()
+                ? UpstreamPriority.background(holidayApiClient::fetchAvailableCountryCodes)
+                : properties.getCountries();
+        int currentYear = Year.now(clock).getValue();
+
+        List<CalendarKey> keys = new ArrayList<>();
+        for (int year = currentYear; year >= currentYear - properties.getYearsBack(); year--) {
+            for (String countryCode : countryCodes) {
+                keys.add(new CalendarKey(year, countryCode));
+            }
+        }
+        for (int year = currentYear + 1; year <= currentYear + properties.getYearsAhead(); year++) {
+            for (String countryCode : countryCodes) {
+                keys.add(new CalendarKey(year, countryCode));
+            }
+        }
+        return keys;
+    }
+
+    private CompletableFuture<?> fetch(CalendarKey key) {
+        try {
+            return UpstreamPriority.background(
+                    () -> holidayApiClient.fetchHolidaysByCountryAsync(key.year(), key.countryCode()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
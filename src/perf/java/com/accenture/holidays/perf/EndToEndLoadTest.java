@@ -0,0 +1,48 @@
+package com.accenture.holidays.perf;
+
+import com.accenture.holidays.HolidaysServiceApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+/**
+ * One-command load test on a laptop: starts the {@link UpstreamSimulator}, boots the service
+ * against it on a random port and drives it with the {@link LoadGenerator}.
+ * <p>
+ * Takes the options of both, e.g. {@code --rps 500 --duration 60s --median-latency 80ms
+ * --error-rate 0.02}. The disk store and the warm-up are switched off so every run starts cold
+ * and only touches the simulator; {@code --warm-up true} turns the warm-up back on.
+ */
+public final class EndToEndLoadTest {
+
+    private EndToEndLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        PerfArgs perfArgs = new PerfArgs(args);
+        UpstreamSimulator.Settings upstream = UpstreamSimulator.Settings.from(perfArgs);
+        LoadGenerator.Settings load = LoadGenerator.Settings.from(perfArgs);
+
+        try (UpstreamSimulator simulator = UpstreamSimulator.start(
+                     new UpstreamSimulator.Settings(0, upstream.medianLatency(), upstream.latencySigma(),
+                             upstream.slowRate(), upstream.slowLatency(), upstream.errorRate(), load.countries()));
+             ConfigurableApplicationContext service = SpringApplication.run(HolidaysServiceApplication.class,
+                     "--server.port=0",
+                     "--holiday.api.base-url=" + simulator.baseUrl(),
+                     "--holiday.api.store.enabled=false",
+                     "--holiday.api.warm-up.enabled=" + perfArgs.get("warm-up", "false"),
+                     "--holiday.api.warm-up.all-countries=true",
+                     "--logging.level.com.accenture.holidays=warn")) {
+
+            URI serviceUrl = URI.create("http://localhost:" + service.getEnvironment().getProperty("local.server.port"));
+            System.out.printf("Offering %d req/s for %s to %s, upstream %s%n",
+                    load.rps(), load.duration(), serviceUrl, upstream);
+            LoadGenerator.Report report = new LoadGenerator(serviceUrl, load).run();
+
+            System.out.print(report.format());
+            System.out.printf("Upstream: %d requests, %d injected errors%n",
+                    simulator.requestCount(), simulator.errorCount());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.accenture.holidays.perf;
+
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.adapter.HolidayJsonDecoder;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of one calendar: writing it as we do in responses and reading it as we do for
+ * every upstream response, with data binding as before and with the streaming
+ * {@link HolidayJsonDecoder}, decoding all fields or only the ones the use case reads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayJsonBenchmark {
+
+    /** Number of yearly calendars of one country in a single array. */
+    @Param({"1", "10"})
+    int calendars;
+
+    private ObjectMapper objectMapper;
+    private HolidayJsonDecoder decoder;
+    private HolidayJsonDecoder leanDecoder;
+    private Holiday[] holidays;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        InMemoryHolidayApiClient apiClient = new InMemoryHolidayApiClient();
+        holidays = new Holiday[calendars * InMemoryHolidayApiClient.HOLIDAYS_PER_YEAR];
+        for (int i = 0; i < calendars; i++) {
+            Holiday[] calendar = apiClient.fetchHolidaysByCountry(2000 + i, "NL");
+            System.arraycopy(calendar, 0, holidays, i * calendar.length, calendar.length);
+        }
+        json = objectMapper.writeValueAsBytes(holidays);
+        decoder = new HolidayJsonDecoder(objectMapper.getFactory(), EnumSet.allOf(HolidayField.class));
+        leanDecoder = new HolidayJsonDecoder(objectMapper.getFactory(), EnumSet.noneOf(HolidayField.class));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(holidays);
+    }
+
+    @Benchmark
+    public Holiday[] deserialize() throws IOException {
+        return objectMapper.readValue(json, Holiday[].class);
+    }
+
+    @Benchmark
+    public Holiday[] decodeStreaming() throws IOException {
+        return decoder.decode(json);
+    }
+
+    @Benchmark
+    public Holiday[] decodeStreamingLean() throws IOException {
+        return leanDecoder.decode(json);
+    }
+}
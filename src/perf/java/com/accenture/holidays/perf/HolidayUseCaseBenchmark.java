@@ -0,0 +1,94 @@
+package com.accenture.holidays.perf;
+
+import com.accenture.holidays.application.config.HolidayUseCaseProperties;
+import com.accenture.holidays.application.usecase.HolidayUseCaseImpl;
+import com.accenture.holidays.domain.model.CommonHolidayInfo;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.HolidayResult;
+import com.accenture.holidays.domain.usecase.HolidayUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the use-case hot paths against warm in-memory calendars, so only our own
+ * computation is measured. Calendar indexes are built on the first invocation and reused after,
+ * as they are in production while calendars stay cached. Run with {@code -prof gc} (the default
+ * of the {@code perf} profile) to get {@code gc.alloc.rate.norm} per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HolidayUseCaseBenchmark {
+
+    private static final int YEAR = Year.now().getValue() - 1;
+
+    @State(Scope.Benchmark)
+    public static class UseCase {
+
+        HolidayUseCase holidayUseCase;
+
+        @Setup
+        public void setUp() {
+            // Continuations run on the calling thread, so each operation is measured on one core
+            holidayUseCase = new HolidayUseCaseImpl(new InMemoryHolidayApiClient(), Runnable::run,
+                    new HolidayUseCaseProperties());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Countries {
+
+        @Param({"1", "20", "200"})
+        int countries;
+
+        List<String> countryCodes;
+
+        @Setup
+        public void setUp() {
+            countryCodes = new ArrayList<>(countries);
+            for (int i = 0; i < countries; i++) {
+                countryCodes.add(InMemoryHolidayApiClient.countryCode(i));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Years {
+
+        @Param({"1", "10", "50"})
+        int years;
+    }
+
+    @Benchmark
+    public List<CommonHolidayInfo> getCommonHolidays(UseCase state) {
+        return state.holidayUseCase.getCommonHolidays(YEAR, "AA", "AB");
+    }
+
+    @Benchmark
+    public HolidayResult<Map<String, Long>> getHolidaysNotOnWeekends(UseCase state, Countries countries) {
+        return state.holidayUseCase.getHolidaysNotOnWeekends(YEAR, countries.countryCodes);
+    }
+
+    @Benchmark
+    public HolidayResult<List<Holiday>> getMostRecentHolidays(UseCase state, Years years) {
+        // Asking for all holidays of N years makes the lookup walk back about N years
+        return state.holidayUseCase.getMostRecentHolidays("AA", years.years * InMemoryHolidayApiClient.HOLIDAYS_PER_YEAR);
+    }
+}
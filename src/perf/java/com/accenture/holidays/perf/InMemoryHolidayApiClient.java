@@ -0,0 +1,80 @@
+package com.accenture.holidays.perf;
+
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stand-in for the cached gateway: deterministic synthetic calendars, generated once per
+ * (year, countryCode) and handed out as the same array on every call, like cache hits.
+ */
+public class InMemoryHolidayApiClient implements HolidayApiClient {
+
+    /** Public holidays per country and year, about the median of the real calendars. */
+    public static final int HOLIDAYS_PER_YEAR = 12;
+
+    private static final String[] TYPES = { "Public", "Bank", "Optional" };
+
+    private final Map<CalendarKey, Holiday[]> calendars = new ConcurrentHashMap<>();
+
+    @Override
+    public Holiday[] fetchHolidaysByCountry(int year, String countryCode) {
+        return calendars.computeIfAbsent(new CalendarKey(year, countryCode), InMemoryHolidayApiClient::generate);
+    }
+
+    @Override
+    public CompletableFuture<Holiday[]> fetchHolidaysByCountryAsync(int year, String countryCode) {
+        return CompletableFuture.completedFuture(fetchHolidaysByCountry(year, countryCode));
+    }
+
+    /**
+     * Calendars are generated for whatever code is asked for, so there is no fixed list to return.
+     */
+    @Override
+    public List<String> fetchAvailableCountryCodes() {
+        throw new UnsupportedOperationException("Synthetic calendars exist for every country code");
+    }
+
+    /**
+     * Country codes AA, AB, ... in a stable order.
+     */
+    public static String countryCode(int index) {
+        return "" + (char) ('A' + index / 26) + (char) ('A' + index % 26);
+    }
+
+    static Holiday[] generate(CalendarKey key) {
+        Random random = new Random(31L * key.year() + key.countryCode().hashCode());
+        Holiday[] holidays = new Holiday[HOLIDAYS_PER_YEAR];
+        // New Year and Christmas are shared by every country, the rest is spread over the year
+        holidays[0] = holiday(key, LocalDate.of(key.year(), 1, 1), "New Year's Day", random);
+        holidays[1] = holiday(key, LocalDate.of(key.year(), 12, 25), "Christmas Day", random);
+        for (int i = 2; i < holidays.length; i++) {
+            LocalDate date = LocalDate.ofYearDay(key.year(), 2 + random.nextInt(350));
+            holidays[i] = holiday(key, date, "Holiday " + i, random);
+        }
+        return holidays;
+    }
+
+    private static Holiday holiday(CalendarKey key, LocalDate date, String name, Random random) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setLocalName(name + " (" + key.countryCode() + ")");
+        holiday.setCountryCode(key.countryCode());
+        holiday.setFixed(random.nextBoolean());
+        holiday.setGlobal(random.nextInt(4) != 0);
+        if (!holiday.isGlobal()) {
+            holiday.setCounties(new String[] { key.countryCode() + "-0" + (1 + random.nextInt(9)) });
+        }
+        holiday.setLaunchYear(random.nextInt(3) == 0 ? 1950 + random.nextInt(50) : 0);
+        holiday.setTypes(new String[] { TYPES[random.nextInt(TYPES.length)] });
+        return holiday;
+    }
+}
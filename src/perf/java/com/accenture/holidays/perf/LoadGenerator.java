@@ -0,0 +1,190 @@
+package com.accenture.holidays.perf;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the three main {@code HolidayController} endpoints at a target request rate and reports
+ * latency percentiles and throughput.
+ * <p>
+ * The load is open-loop: request {@code i} is due at {@code start + i / rps} whether or not earlier
+ * requests have completed, and its latency is measured from that due time. A slow service thus
+ * shows up as queueing in the percentiles instead of silently lowering the offered load.
+ * Requests rotate over most-recent, not-weekends and common with random countries and years,
+ * from a fixed seed so runs are comparable.
+ */
+public final class LoadGenerator {
+
+    enum Endpoint { MOST_RECENT, NOT_WEEKENDS, COMMON }
+
+    /**
+     * @param rps         offered requests per second
+     * @param duration    how long to offer load; the report waits for outstanding requests after it
+     * @param countries   countries to pick from, see {@link InMemoryHolidayApiClient#countryCode(int)}
+     * @param years       years to pick from, counting back from the current year
+     * @param fanOut      countries per not-weekends request
+     * @param timeout     per-request timeout, counted as a failure
+     */
+    public record Settings(int rps, Duration duration, int countries, int years, int fanOut, Duration timeout) {
+
+        static Settings from(PerfArgs args) {
+            return new Settings(
+                    args.getInt("rps", 200),
+                    args.getDuration("duration", Duration.ofSeconds(30)),
+                    args.getInt("countries", 50),
+                    args.getInt("years", 5),
+                    args.getInt("fan-out", 5),
+                    args.getDuration("timeout", Duration.ofSeconds(10)));
+        }
+    }
+
+    private final URI serviceUrl;
+    private final Settings settings;
+    private final HttpClient httpClient;
+
+    public LoadGenerator(URI serviceUrl, Settings settings) {
+        this.serviceUrl = serviceUrl;
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.timeout())
+                .build();
+    }
+
+    /**
+     * Offers the load and returns the report once every request has completed or timed out.
+     */
+    public Report run() {
+        int total = (int) (settings.rps() * settings.duration().toSeconds());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+        long[] latencies = new long[total];
+        Endpoint[] endpoints = new Endpoint[total];
+        AtomicLong errors = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        List<CompletableFuture<?>> pending = new ArrayList<>(total);
+        Random random = new Random(42);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long due = start + i * intervalNanos;
+            LockSupport.parkNanos(due - System.nanoTime());
+
+            int index = i;
+            endpoints[i] = Endpoint.values()[i % Endpoint.values().length];
+            HttpRequest request = HttpRequest.newBuilder(serviceUrl.resolve(path(endpoints[i], random)))
+                    .timeout(settings.timeout())
+                    .GET()
+                    .build();
+            pending.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - due;
+                        if (error != null) {
+                            failures.incrementAndGet();
+                        } else if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .join();
+        long elapsed = System.nanoTime() - start;
+
+        return new Report(total, errors.get(), failures.get(), elapsed, latencies, endpoints);
+    }
+
+    private String path(Endpoint endpoint, Random random) {
+        int year = Year.now().getValue() - random.nextInt(settings.years());
+        return switch (endpoint) {
+            case MOST_RECENT -> "/api/holidays/most-recent/" + country(random) + "/" + (1 + random.nextInt(5));
+            case NOT_WEEKENDS -> {
+                StringBuilder countryCodes = new StringBuilder(country(random));
+                for (int i = 1; i < settings.fanOut(); i++) {
+                    countryCodes.append(',').append(country(random));
+                }
+                yield "/api/holidays/not-weekends?year=" + year + "&countryCodes=" + countryCodes;
+            }
+            case COMMON -> "/api/holidays/common?year=" + year
+                    + "&countryCode1=" + country(random) + "&countryCode2=" + country(random);
+        };
+    }
+
+    private String country(Random random) {
+        return InMemoryHolidayApiClient.countryCode(random.nextInt(settings.countries()));
+    }
+
+    /**
+     * Outcome of a run; latencies are in nanoseconds, indexed like the requests.
+     */
+    public record Report(int requests, long errors, long failures, long elapsedNanos,
+                         long[] latencies, Endpoint[] endpoints) {
+
+        public double throughput() {
+            return (requests - failures) * 1e9 / elapsedNanos;
+        }
+
+        public String format() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("%d requests in %.1f s: %.1f req/s, %d errors (4xx/5xx), %d failures%n",
+                    requests, elapsedNanos / 1e9, throughput(), errors, failures));
+            report.append(String.format("%-12s %8s %8s %8s %8s %8s%n", "endpoint", "p50", "p90", "p99", "p999", "max"));
+            report.append(row("all", latencies));
+            for (Endpoint endpoint : Endpoint.values()) {
+                report.append(row(endpoint.name().toLowerCase(), latenciesOf(endpoint)));
+            }
+            return report.toString();
+        }
+
+        private long[] latenciesOf(Endpoint endpoint) {
+            long[] selected = new long[latencies.length];
+            int count = 0;
+            for (int i = 0; i < latencies.length; i++) {
+                if (endpoints[i] == endpoint) {
+                    selected[count++] = latencies[i];
+                }
+            }
+            return Arrays.copyOf(selected, count);
+        }
+
+        private static String row(String name, long[] values) {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            return String.format("%-12s %8.1f %8.1f %8.1f %8.1f %8.1f ms%n", name,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), percentile(sorted, 1.0));
+        }
+
+        /**
+         * Nearest-rank percentile in milliseconds.
+         */
+        static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+        }
+    }
+
+    /**
+     * Loads an already running service, e.g. one started against the {@link UpstreamSimulator}.
+     */
+    public static void main(String[] args) {
+        PerfArgs perfArgs = new PerfArgs(args);
+        URI serviceUrl = URI.create(perfArgs.get("service-url", "http://localhost:8080"));
+        Settings settings = Settings.from(perfArgs);
+        System.out.printf("Offering %d req/s for %s to %s%n", settings.rps(), settings.duration(), serviceUrl);
+        System.out.print(new LoadGenerator(serviceUrl, settings).run().format());
+    }
+}
@@ -0,0 +1,196 @@
+package com.accenture.holidays.perf;
+
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the upstream holiday API, for load tests that must not hit the real one.
+ * <p>
+ * Serves {@code /PublicHolidays/{year}/{countryCode}} for every year and every two-letter country
+ * code with the deterministic calendars of {@link InMemoryHolidayApiClient}, and
+ * {@code /AvailableCountries} for the first {@code countries} codes. Each response is delayed by
+ * a log-normal latency, a fraction of them additionally by a slow tail, and a fraction fails with
+ * a 503. Calendars carry an ETag and honour {@code If-None-Match}, like the real API.
+ */
+public final class UpstreamSimulator implements AutoCloseable {
+
+    private static final Pattern CALENDAR_PATH = Pattern.compile(".*/PublicHolidays/(\\d{4})/([A-Za-z]{2})");
+
+    /**
+     * @param port          port to listen on, 0 for any free port
+     * @param medianLatency median of the log-normal response latency
+     * @param latencySigma  standard deviation of the latency's logarithm, 0 for a constant latency
+     * @param slowRate      fraction of responses that are additionally delayed by {@code slowLatency}
+     * @param slowLatency   extra latency of the slow tail
+     * @param errorRate     fraction of calendar requests that fail with a 503
+     * @param countries     number of countries listed by {@code /AvailableCountries}
+     */
+    public record Settings(int port, Duration medianLatency, double latencySigma, double slowRate,
+                           Duration slowLatency, double errorRate, int countries) {
+
+        static Settings from(PerfArgs args) {
+            return new Settings(
+                    args.getInt("port", 8089),
+                    args.getDuration("median-latency", Duration.ofMillis(40)),
+                    args.getDouble("latency-sigma", 0.5),
+                    args.getDouble("slow-rate", 0.01),
+                    args.getDuration("slow-latency", Duration.ofSeconds(1)),
+                    args.getDouble("error-rate", 0.0),
+                    args.getInt("countries", 200));
+        }
+    }
+
+    private record Calendar(byte[] body, String etag) {
+    }
+
+    private final Settings settings;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Map<CalendarKey, Calendar> calendars = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private UpstreamSimulator(Settings settings) throws IOException {
+        this.settings = settings;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", settings.port()), 1024);
+        // Responses sleep through their latency, so every concurrent request needs its own thread
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api/v3/PublicHolidays/", this::handleCalendar);
+        server.createContext("/api/v3/AvailableCountries", this::handleAvailableCountries);
+    }
+
+    public static UpstreamSimulator start(Settings settings) throws IOException {
+        UpstreamSimulator simulator = new UpstreamSimulator(settings);
+        simulator.server.start();
+        return simulator;
+    }
+
+    /**
+     * Base URL to configure as {@code holiday.api.base-url}.
+     */
+    public URI baseUrl() {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/api/v3");
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long errorCount() {
+        return errors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleCalendar(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            Matcher matcher = CALENDAR_PATH.matcher(exchange.getRequestURI().getPath());
+            if (!matcher.matches()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            delay();
+            if (ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+                errors.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            CalendarKey key = new CalendarKey(Integer.parseInt(matcher.group(1)), matcher.group(2).toUpperCase());
+            Calendar calendar = calendars.computeIfAbsent(key, this::render);
+            exchange.getResponseHeaders().set("ETag", calendar.etag());
+            if (calendar.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            send(exchange, calendar.body());
+        }
+    }
+
+    private void handleAvailableCountries(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            delay();
+            Map<?, ?>[] countries = new Map<?, ?>[settings.countries()];
+            for (int i = 0; i < countries.length; i++) {
+                String countryCode = InMemoryHolidayApiClient.countryCode(i);
+                countries[i] = Map.of("countryCode", countryCode, "name", "Country " + countryCode);
+            }
+            send(exchange, objectMapper.writeValueAsBytes(countries));
+        }
+    }
+
+    private Calendar render(CalendarKey key) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(InMemoryHolidayApiClient.generate(key));
+            return new Calendar(body, "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delay() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double nanos = settings.medianLatency().toNanos() * Math.exp(settings.latencySigma() * random.nextGaussian());
+        if (random.nextDouble() < settings.slowRate()) {
+            nanos += settings.slowLatency().toNanos();
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep((long) nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Runs the simulator until the process is stopped, e.g. to point a locally started service at it.
+     */
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.from(new PerfArgs(args));
+        UpstreamSimulator simulator = start(settings);
+        System.out.printf("Upstream simulator listening on %s with %s%n", simulator.baseUrl(), settings);
+        Thread.currentThread().join();
+    }
+}
@@ -1,22 +1,51 @@
 package com.accenture.holidays.adapter.controller;
 
+import com.accenture.holidays.application.config.HolidayHttpCacheProperties;
+import com.accenture.holidays.application.controller.BatchQueryRequest;
+import com.accenture.holidays.application.controller.BatchQueryResponse;
 import com.accenture.holidays.application.controller.HolidayController;
 import com.accenture.holidays.domain.usecase.HolidayUseCase;
 import com.accenture.holidays.domain.model.CommonHolidayInfo;
 import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.HolidayQuery;
+import com.accenture.holidays.domain.model.HolidayQueryResult;
+import com.accenture.holidays.domain.model.HolidayResult;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+import com.accenture.holidays.domain.model.WeekdayHolidayCount;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +58,8 @@ class HolidayControllerTest {
 
     @BeforeEach
     void setUp() {
-        holidayController = new HolidayController(holidayService);
+        holidayController = new HolidayController(holidayService, new ObjectMapper().findAndRegisterModules(),
+            new HolidayHttpCacheProperties());
     }
 
     @Test
@@ -42,10 +72,11 @@ class HolidayControllerTest {
             createHoliday(LocalDate.now().minusDays(2), "Day Before"),
             createHoliday(LocalDate.now().minusDays(3), "Three Days Ago")
         );
-        when(holidayService.getMostRecentHolidays(countryCode, count)).thenReturn(expectedHolidays);
+        when(holidayService.getMostRecentHolidays(countryCode, count))
+            .thenReturn(HolidayResult.complete(expectedHolidays));
 
         // Act
-        List<Holiday> result = holidayController.getMostRecentHolidays(countryCode, count);
+        List<Holiday> result = holidayController.getMostRecentHolidays(countryCode, count).getBody();
 
         // Assert
         assertNotNull(result);
@@ -53,6 +84,44 @@ class HolidayControllerTest {
         verify(holidayService).getMostRecentHolidays(countryCode, count);
     }
 
+    @Test
+    void getMostRecentHolidays_ShouldNotCacheAListCutShort() {
+        // Arrange
+        List<Holiday> found = List.of(createHoliday(LocalDate.now().minusDays(1), "Yesterday"));
+        when(holidayService.getMostRecentHolidays("NL", 3)).thenReturn(HolidayResult.partial(found));
+
+        // Act
+        ResponseEntity<List<Holiday>> response = holidayController.getMostRecentHolidays("NL", 3);
+
+        // Assert
+        assertEquals("no-store", response.getHeaders().getCacheControl());
+        assertEquals(found, response.getBody());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamMostRecentHolidays_ShouldWriteOneLinePerHoliday() throws IOException {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Holiday> sink = invocation.getArgument(2);
+            sink.accept(createHoliday(LocalDate.now().minusDays(1), "Yesterday"));
+            sink.accept(createHoliday(LocalDate.now().minusDays(2), "Day Before"));
+            return null;
+        }).when(holidayService).getMostRecentHolidays(eq("NL"), eq(2), any(Consumer.class));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = holidayController.streamMostRecentHolidays("NL", 2);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Assert
+        String[] lines = body.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"name\":\"Yesterday\""));
+        assertTrue(lines[1].contains("\"name\":\"Day Before\""));
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+    }
+
     @Test
     void getHolidaysNotOnWeekends_ShouldReturnCounts() {
         // Arrange
@@ -62,10 +131,11 @@ class HolidayControllerTest {
             "NL", 5L,
             "GB", 3L
         );
-        when(holidayService.getHolidaysNotOnWeekends(year, countryCodes)).thenReturn(expectedCounts);
+        when(holidayService.getHolidaysNotOnWeekends(year, countryCodes))
+            .thenReturn(HolidayResult.complete(expectedCounts));
 
         // Act
-        Map<String, Long> result = holidayController.getHolidaysNotOnWeekends(year, countryCodes);
+        Map<String, Long> result = holidayController.getHolidaysNotOnWeekends(year, countryCodes, null).getBody();
 
         // Assert
         assertNotNull(result);
@@ -75,6 +145,84 @@ class HolidayControllerTest {
         verify(holidayService).getHolidaysNotOnWeekends(year, countryCodes);
     }
 
+    @Test
+    void getHolidaysNotOnWeekends_ShouldCachePastYearsLongerThanCurrentYear() {
+        // Arrange
+        int currentYear = Year.now().getValue();
+        List<String> countryCodes = List.of("NL");
+        when(holidayService.getHolidaysNotOnWeekends(anyInt(), eq(countryCodes)))
+            .thenReturn(HolidayResult.complete(Map.of("NL", 5L)));
+
+        // Act
+        ResponseEntity<Map<String, Long>> past = holidayController.getHolidaysNotOnWeekends(2020, countryCodes, null);
+        ResponseEntity<Map<String, Long>> current =
+            holidayController.getHolidaysNotOnWeekends(currentYear, countryCodes, null);
+
+        // Assert
+        assertEquals("max-age=86400, public", past.getHeaders().getCacheControl());
+        assertEquals("max-age=300, public", current.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getHolidaysNotOnWeekends_ShouldNotCachePartialCounts() {
+        // Arrange: a country that failed upstream is reported with 0
+        List<String> countryCodes = List.of("NL", "GB");
+        when(holidayService.getHolidaysNotOnWeekends(2020, countryCodes))
+            .thenReturn(HolidayResult.partial(Map.of("NL", 5L, "GB", 0L)));
+
+        // Act
+        ResponseEntity<Map<String, Long>> response =
+            holidayController.getHolidaysNotOnWeekends(2020, countryCodes, null);
+
+        // Assert
+        assertEquals("no-store", response.getHeaders().getCacheControl());
+        assertEquals(0L, response.getBody().get("GB"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getHolidaysNotOnWeekendsForYears_ShouldStreamCountsAsJsonArray() throws IOException {
+        // Arrange
+        List<String> countryCodes = Arrays.asList("NL", "GB");
+        doAnswer(invocation -> {
+            Consumer<WeekdayHolidayCount> sink = invocation.getArgument(3);
+            sink.accept(new WeekdayHolidayCount("GB", 2024, 6));
+            sink.accept(new WeekdayHolidayCount("NL", 2024, 9));
+            return null;
+        }).when(holidayService).getHolidaysNotOnWeekends(eq(2024), eq(2024), eq(countryCodes), any(Consumer.class));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response =
+            holidayController.getHolidaysNotOnWeekendsForYears(2024, 2024, countryCodes);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Assert
+        assertEquals("[{\"countryCode\":\"GB\",\"year\":2024,\"count\":6},"
+            + "{\"countryCode\":\"NL\",\"year\":2024,\"count\":9}]", body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamHolidaysNotOnWeekends_ShouldWriteOnlyTopCountsInRankOrder() throws IOException {
+        // Arrange
+        List<String> countryCodes = Arrays.asList("NL", "GB", "DE");
+        Map<String, Long> topCounts = new LinkedHashMap<>();
+        topCounts.put("DE", 10L);
+        topCounts.put("NL", 9L);
+        when(holidayService.getHolidaysNotOnWeekends(2024, countryCodes, 2))
+            .thenReturn(HolidayResult.complete(topCounts));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response =
+            holidayController.streamHolidaysNotOnWeekends(2024, countryCodes, 2);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Assert
+        assertEquals("{\"countryCode\":\"DE\",\"year\":2024,\"count\":10}\n"
+            + "{\"countryCode\":\"NL\",\"year\":2024,\"count\":9}\n", body.toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     void getCommonHolidays_ShouldReturnCommonHolidays() {
         // Arrange
@@ -93,7 +241,7 @@ class HolidayControllerTest {
 
         // Act
         List<CommonHolidayInfo> result = holidayController.getCommonHolidays(
-            year, countryCode1, countryCode2);
+            year, countryCode1, countryCode2).getBody();
 
         // Assert
         assertNotNull(result);
@@ -105,6 +253,109 @@ class HolidayControllerTest {
         verify(holidayService).getCommonHolidays(year, countryCode1, countryCode2);
     }
 
+    @Test
+    void getSharedHolidays_ShouldRequireAllCountriesByDefault() {
+        // Arrange
+        int year = 2025;
+        List<String> countryCodes = Arrays.asList("NL", "DE", "GB");
+        List<SharedHolidayInfo> expectedHolidays = List.of(new SharedHolidayInfo(
+            LocalDate.of(2025, 1, 1),
+            Map.of("NL", "Nieuwjaarsdag", "DE", "Neujahr", "GB", "New Year's Day")));
+        when(holidayService.getSharedHolidays(year, countryCodes, 3)).thenReturn(expectedHolidays);
+
+        // Act
+        List<SharedHolidayInfo> result = holidayController.getSharedHolidays(year, countryCodes, null).getBody();
+
+        // Assert
+        assertEquals(expectedHolidays, result);
+        verify(holidayService).getSharedHolidays(year, countryCodes, 3);
+    }
+
+    @Test
+    void getSharedHolidays_ShouldRejectRepeatedCountries() {
+        // Act & Assert: NL twice would report every NL holiday as shared
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> holidayController.getSharedHolidays(2025, List.of("NL", "NL"), 2));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(holidayService);
+    }
+
+    @Test
+    void getSharedHolidays_ShouldRejectMinCountriesAboveCountryCount() {
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> holidayController.getSharedHolidays(2025, List.of("NL", "DE"), 3));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(holidayService);
+    }
+
+    @Test
+    void executeBatch_ShouldMapQueriesAndKeepResultOrder() {
+        // Arrange
+        List<BatchQueryRequest> queries = List.of(
+            new BatchQueryRequest("shared", null, null, 2025, List.of("NL", "DE"), null, null, null, null),
+            new BatchQueryRequest("most-recent", "NL", 3, null, null, null, null, null, null));
+        List<HolidayQuery> expectedQueries = List.of(
+            new HolidayQuery.Shared(2025, List.of("NL", "DE"), 2),
+            new HolidayQuery.MostRecent("NL", 3));
+        when(holidayService.executeBatch(expectedQueries)).thenReturn(List.of(
+            HolidayQueryResult.success(List.of()),
+            HolidayQueryResult.failure("API is not reachable")));
+
+        // Act
+        List<BatchQueryResponse> result = holidayController.executeBatch(queries);
+
+        // Assert
+        assertEquals(List.of(
+            new BatchQueryResponse("shared", List.of(), null),
+            new BatchQueryResponse("most-recent", null, "API is not reachable")), result);
+    }
+
+    @Test
+    void executeBatch_ShouldRejectIncompleteQuery() {
+        // Arrange
+        List<BatchQueryRequest> queries = List.of(
+            new BatchQueryRequest("common", null, null, 2025, null, "NL", null, null, null));
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> holidayController.executeBatch(queries));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    @Test
+    void executeBatch_ShouldRejectSharedQueryWithOneCountry() {
+        // Arrange
+        List<BatchQueryRequest> queries = List.of(
+            new BatchQueryRequest("shared", null, null, 2025, List.of("NL"), null, null, null, null));
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> holidayController.executeBatch(queries));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    @Test
+    void batchQueryRequest_ShouldRejectEmptyOrNullCountryCodes() {
+        // Arrange
+        List<String> withNull = Arrays.asList("NL", null);
+
+        // Act
+        Set<ConstraintViolation<BatchQueryRequest>> empty;
+        Set<ConstraintViolation<BatchQueryRequest>> nullElement;
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            empty = validator.validate(
+                new BatchQueryRequest("not-weekends", null, null, 2025, List.of(), null, null, null, null));
+            nullElement = validator.validate(
+                new BatchQueryRequest("not-weekends", null, null, 2025, withNull, null, null, null, null));
+        }
+
+        // Assert
+        assertEquals(1, empty.size());
+        assertEquals(1, nullElement.size());
+    }
+
     private Holiday createHoliday(LocalDate date, String name) {
         Holiday holiday = new Holiday();
         holiday.setDate(date);
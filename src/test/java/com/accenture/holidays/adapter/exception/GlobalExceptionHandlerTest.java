@@ -3,6 +3,7 @@ package com.accenture.holidays.adapter.exception;
 import com.accenture.holidays.domain.exception.ErrorResponse;
 import com.accenture.holidays.application.exception.GlobalExceptionHandler;
 import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,20 @@ class GlobalExceptionHandlerTest {
         assertEquals("API Error", response.getBody().getError());
     }
 
+    @Test
+    void handleUpstreamUnavailableException_ShouldReturnServiceUnavailable() {
+        // Arrange
+        UpstreamUnavailableException ex = new UpstreamUnavailableException("Holiday API circuit is open", null);
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleUpstreamUnavailableException(ex, request);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("External API Error", response.getBody().getError());
+    }
+
     @Test
     void handleHttpClientErrorException_ShouldReturnClientError() {
         // Arrange
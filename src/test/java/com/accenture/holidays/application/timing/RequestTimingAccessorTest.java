@@ -0,0 +1,39 @@
+package com.accenture.holidays.application.timing;
+
+import com.accenture.holidays.domain.timing.RequestTiming;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingAccessorTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.set(null);
+    }
+
+    @Test
+    void setThreadLocals_ShouldRestoreCapturedTimingAndClearItAfterwards() {
+        // Arrange
+        ContextRegistry registry = new ContextRegistry().registerThreadLocalAccessor(new RequestTimingAccessor());
+        ContextSnapshotFactory factory = ContextSnapshotFactory.builder().contextRegistry(registry).build();
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        RequestTiming.set(timing);
+        ContextSnapshot snapshot = factory.captureAll();
+        RequestTiming.set(null);
+
+        // Act
+        RequestTiming restored;
+        try (ContextSnapshot.Scope scope = snapshot.setThreadLocals()) {
+            restored = RequestTiming.current();
+        }
+
+        // Assert
+        assertSame(timing, restored);
+        assertNull(RequestTiming.current());
+    }
+}
@@ -0,0 +1,59 @@
+package com.accenture.holidays.application.timing;
+
+import com.accenture.holidays.application.config.RequestTimingProperties;
+import com.accenture.holidays.domain.timing.RequestTiming;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingFilterTest {
+
+    private RequestTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RequestTimingProperties properties = new RequestTimingProperties();
+        properties.setSampleRate(1.0);
+        filter = new RequestTimingFilter(properties);
+    }
+
+    @Test
+    void doFilter_ShouldBindTimingOnlyWhileTheRequestIsHandled() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/holidays/common");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<RequestTiming> bound = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            bound.set(RequestTiming.current());
+            RequestTiming.record(RequestTiming.Phase.UPSTREAM, 5_000_000);
+        });
+
+        // Assert
+        assertNotNull(bound.get());
+        assertEquals(5_000_000, bound.get().nanos(RequestTiming.Phase.UPSTREAM));
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    void serverTiming_ShouldListEveryPhaseInMilliseconds() {
+        // Arrange
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        timing.add(RequestTiming.Phase.UPSTREAM, 12_340_000);
+        timing.add(RequestTiming.Phase.QUEUE, 1_000_000);
+        timing.add(RequestTiming.Phase.DECODE, 2_500_000);
+
+        // Act
+        String header = RequestTimingFilter.serverTiming(timing);
+
+        // Assert
+        assertTrue(header.startsWith("total;dur="));
+        assertTrue(header.contains("upstream;dur=12.3, queue;dur=1.0, decode;dur=2.5, compute;dur="));
+    }
+}
@@ -0,0 +1,95 @@
+package com.accenture.holidays.application.usecase;
+
+import com.accenture.holidays.domain.model.CommonHolidayInfo;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarIndexTest {
+
+    @Test
+    void weekdayHolidays_ShouldCountEveryHolidayOffTheWeekend() {
+        // Arrange: 2024 is a leap year, Dec 31 is its 366th day
+        Holiday[] holidays = {
+            createHoliday(LocalDate.of(2024, 12, 31), "New Year's Eve"),   // Tuesday
+            createHoliday(LocalDate.of(2024, 2, 29), "Leap Day"),           // Thursday
+            createHoliday(LocalDate.of(2024, 2, 29), "Regional Leap Day"),  // Thursday, same day
+            createHoliday(LocalDate.of(2024, 1, 6), "Epiphany")             // Saturday
+        };
+
+        // Act
+        long result = CalendarIndex.of(2024, holidays).weekdayHolidays();
+
+        // Assert
+        assertEquals(3, result);
+    }
+
+    @Test
+    void commonWith_ShouldReturnSharedDaysInDateOrder() {
+        // Arrange
+        CalendarIndex nl = CalendarIndex.of(2025, new Holiday[] {
+            createHoliday(LocalDate.of(2025, 12, 25), "Eerste Kerstdag"),
+            createHoliday(LocalDate.of(2025, 1, 1), "Nieuwjaarsdag"),
+            createHoliday(LocalDate.of(2025, 4, 27), "Koningsdag")
+        });
+        CalendarIndex gb = CalendarIndex.of(2025, new Holiday[] {
+            createHoliday(LocalDate.of(2025, 1, 1), "New Year's Day"),
+            createHoliday(LocalDate.of(2025, 12, 25), "Christmas Day"),
+            createHoliday(LocalDate.of(2025, 12, 25), "Christmas Day (Scotland)"),
+            createHoliday(LocalDate.of(2025, 12, 26), "Boxing Day")
+        });
+
+        // Act
+        List<CommonHolidayInfo> result = nl.commonWith(gb);
+
+        // Assert
+        assertEquals(List.of(
+            new CommonHolidayInfo(LocalDate.of(2025, 1, 1), "Nieuwjaarsdag", "New Year's Day"),
+            new CommonHolidayInfo(LocalDate.of(2025, 12, 25), "Eerste Kerstdag", "Christmas Day"),
+            new CommonHolidayInfo(LocalDate.of(2025, 12, 25), "Eerste Kerstdag", "Christmas Day (Scotland)")
+        ), result);
+    }
+
+    @Test
+    void shared_ShouldKeepDaysCelebratedByEnoughCountries() {
+        // Arrange
+        Map<String, CalendarIndex> calendars = new LinkedHashMap<>();
+        calendars.put("NL", CalendarIndex.of(2025, new Holiday[] {
+            createHoliday(LocalDate.of(2025, 1, 1), "Nieuwjaarsdag"),
+            createHoliday(LocalDate.of(2025, 12, 26), "Tweede Kerstdag")
+        }));
+        calendars.put("DE", CalendarIndex.of(2025, new Holiday[] {
+            createHoliday(LocalDate.of(2025, 1, 1), "Neujahr"),
+            createHoliday(LocalDate.of(2025, 10, 3), "Tag der Deutschen Einheit")
+        }));
+        calendars.put("GB", CalendarIndex.of(2025, new Holiday[] {
+            createHoliday(LocalDate.of(2025, 1, 1), "New Year's Day"),
+            createHoliday(LocalDate.of(2025, 12, 26), "Boxing Day")
+        }));
+
+        // Act
+        List<SharedHolidayInfo> all = CalendarIndex.shared(calendars, 3);
+        List<SharedHolidayInfo> atLeastTwo = CalendarIndex.shared(calendars, 2);
+
+        // Assert
+        assertEquals(List.of(new SharedHolidayInfo(LocalDate.of(2025, 1, 1),
+            Map.of("NL", "Nieuwjaarsdag", "DE", "Neujahr", "GB", "New Year's Day"))), all);
+        assertEquals(2, atLeastTwo.size());
+        assertEquals(Map.of("NL", "Tweede Kerstdag", "GB", "Boxing Day"), atLeastTwo.get(1).localNames());
+    }
+
+    private Holiday createHoliday(LocalDate date, String name) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setLocalName(name);
+        return holiday;
+    }
+}
@@ -1,20 +1,33 @@
 package com.accenture.holidays.application.usecase;
 
+import com.accenture.holidays.application.config.HolidayUseCaseProperties;
 import com.accenture.holidays.domain.gateway.HolidayApiClient;
 import com.accenture.holidays.domain.exception.HolidayApiException;
 import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.domain.model.HolidayQuery;
+import com.accenture.holidays.domain.model.HolidayQueryResult;
+import com.accenture.holidays.domain.model.HolidayResult;
 import com.accenture.holidays.domain.model.CommonHolidayInfo;
+import com.accenture.holidays.domain.model.SharedHolidayInfo;
+import com.accenture.holidays.domain.model.WeekdayHolidayCount;
+import com.accenture.holidays.domain.timing.RequestTiming;
 import com.accenture.holidays.domain.usecase.HolidayUseCase;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,9 +40,17 @@ class HolidayUseCaseTest {
 
     private HolidayUseCase holidayUseCase;
 
+    private ExecutorService executor;
+
     @BeforeEach
     void setUp() {
-        holidayUseCase = new HolidayUseCaseImpl(apiClient);
+        executor = Executors.newFixedThreadPool(4);
+        holidayUseCase = new HolidayUseCaseImpl(apiClient, executor, new HolidayUseCaseProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
     }
 
     @Test
@@ -43,10 +64,11 @@ class HolidayUseCaseTest {
             createHoliday(today.minusDays(2), "Day Before"),
             createHoliday(today.minusDays(3), "Three Days Ago")
         };
-        when(apiClient.fetchHolidaysByCountry(anyInt(), eq(countryCode))).thenReturn(holidays);
+        when(apiClient.fetchHolidaysByCountryAsync(anyInt(), eq(countryCode)))
+            .thenReturn(CompletableFuture.completedFuture(holidays));
 
         // Act
-        List<Holiday> result = holidayUseCase.getMostRecentHolidays(countryCode, count);
+        List<Holiday> result = holidayUseCase.getMostRecentHolidays(countryCode, count).value();
 
         // Assert
         assertEquals(count, result.size());
@@ -68,16 +90,114 @@ class HolidayUseCaseTest {
             createHoliday(LocalDate.of(2025, 1, 1), "New Year"), // Monday
             createHoliday(LocalDate.of(2025, 1, 4), "Weekend")  // Saturday
         };
-        when(apiClient.fetchHolidaysByCountry(year, "NL")).thenReturn(nlHolidays);
-        when(apiClient.fetchHolidaysByCountry(year, "GB")).thenReturn(gbHolidays);
+        when(apiClient.fetchHolidaysByCountryAsync(year, "NL")).thenReturn(CompletableFuture.completedFuture(nlHolidays));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "GB")).thenReturn(CompletableFuture.completedFuture(gbHolidays));
 
         // Act
-        Map<String, Long> result = holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes);
+        HolidayResult<Map<String, Long>> result = holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes);
 
         // Assert
-        assertEquals(2, result.size());
-        assertEquals(1L, result.get("NL"));
-        assertEquals(1L, result.get("GB"));
+        assertFalse(result.partial());
+        assertEquals(2, result.value().size());
+        assertEquals(1L, result.value().get("NL"));
+        assertEquals(1L, result.value().get("GB"));
+    }
+
+    @Test
+    void getHolidaysNotOnWeekends_ShouldRecordExecutorQueueingOnTheRequestTiming() throws HolidayApiException {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2025, 1, 1), "New Year") };
+        when(apiClient.fetchHolidaysByCountryAsync(eq(2025), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(holidays));
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+
+        // Act
+        RequestTiming.set(timing);
+        try {
+            holidayUseCase.getHolidaysNotOnWeekends(2025, Arrays.asList("NL", "GB"));
+        } finally {
+            RequestTiming.set(null);
+        }
+
+        // Assert: queueing is recorded before a count runs, its run time only after it completed
+        assertTrue(timing.nanos(RequestTiming.Phase.QUEUE) > 0);
+    }
+
+    @Test
+    void getHolidaysNotOnWeekends_ShouldRankByCountDescending_AndKeepOnlyTop() throws HolidayApiException {
+        // Arrange
+        int year = 2025;
+        Holiday newYear = createHoliday(LocalDate.of(2025, 1, 1), "New Year");      // Wednesday
+        Holiday christmas = createHoliday(LocalDate.of(2025, 12, 25), "Christmas"); // Thursday
+        Holiday kingsDay = createHoliday(LocalDate.of(2025, 4, 28), "King's Day");  // Monday
+        when(apiClient.fetchHolidaysByCountryAsync(year, "BE")).thenReturn(
+            CompletableFuture.completedFuture(new Holiday[] { newYear }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "NL")).thenReturn(
+            CompletableFuture.completedFuture(new Holiday[] { newYear, christmas, kingsDay }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "GB")).thenReturn(
+            CompletableFuture.completedFuture(new Holiday[] { newYear, christmas }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "DE")).thenReturn(
+            CompletableFuture.completedFuture(new Holiday[] { christmas, newYear }));
+
+        List<String> countryCodes = List.of("BE", "NL", "GB", "DE");
+
+        // Act
+        Map<String, Long> all = holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes).value();
+        Map<String, Long> top = holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes, 2).value();
+
+        // Assert: ties keep the request order
+        assertEquals(List.of("NL", "GB", "DE", "BE"), List.copyOf(all.keySet()));
+        assertEquals(List.of(3L, 2L, 2L, 1L), List.copyOf(all.values()));
+        assertEquals(List.of("NL", "GB"), List.copyOf(top.keySet()));
+    }
+
+    @Test
+    void getHolidaysNotOnWeekends_ShouldReturnZero_WhenCountryFails() throws HolidayApiException {
+        // Arrange
+        int year = 2025;
+        List<String> countryCodes = Arrays.asList("NL", "XX");
+        Holiday[] nlHolidays = {
+            createHoliday(LocalDate.of(2025, 1, 1), "New Year") // Wednesday
+        };
+        when(apiClient.fetchHolidaysByCountryAsync(year, "NL")).thenReturn(CompletableFuture.completedFuture(nlHolidays));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "XX")).thenReturn(CompletableFuture.failedFuture(
+            new HolidayApiException("Unknown country", new RuntimeException())));
+
+        // Act
+        HolidayResult<Map<String, Long>> result = holidayUseCase.getHolidaysNotOnWeekends(year, countryCodes);
+
+        // Assert
+        assertTrue(result.partial());
+        assertEquals(2, result.value().size());
+        assertEquals(1L, result.value().get("NL"));
+        assertEquals(0L, result.value().get("XX"));
+    }
+
+    @Test
+    void getHolidaysNotOnWeekends_ShouldPassOnOneCountPerYearAndCountry() throws HolidayApiException {
+        // Arrange
+        Holiday[] nl2024 = { createHoliday(LocalDate.of(2024, 1, 1), "New Year") };  // Monday
+        Holiday[] nl2025 = {
+            createHoliday(LocalDate.of(2025, 1, 1), "New Year"),                     // Wednesday
+            createHoliday(LocalDate.of(2025, 12, 25), "Christmas")                   // Thursday
+        };
+        when(apiClient.fetchHolidaysByCountryAsync(2024, "NL")).thenReturn(CompletableFuture.completedFuture(nl2024));
+        when(apiClient.fetchHolidaysByCountryAsync(2025, "NL")).thenReturn(CompletableFuture.completedFuture(nl2025));
+        when(apiClient.fetchHolidaysByCountryAsync(2024, "XX")).thenReturn(CompletableFuture.failedFuture(
+            new HolidayApiException("Unknown country", new RuntimeException())));
+        when(apiClient.fetchHolidaysByCountryAsync(2025, "XX")).thenReturn(CompletableFuture.failedFuture(
+            new HolidayApiException("Unknown country", new RuntimeException())));
+        List<WeekdayHolidayCount> result = new ArrayList<>();
+
+        // Act
+        holidayUseCase.getHolidaysNotOnWeekends(2024, 2025, List.of("NL", "XX"), result::add);
+
+        // Assert
+        assertEquals(4, result.size());
+        assertTrue(result.contains(new WeekdayHolidayCount("NL", 2024, 1)));
+        assertTrue(result.contains(new WeekdayHolidayCount("NL", 2025, 2)));
+        assertTrue(result.contains(new WeekdayHolidayCount("XX", 2024, 0)));
+        assertTrue(result.contains(new WeekdayHolidayCount("XX", 2025, 0)));
     }
 
     @Test
@@ -95,8 +215,8 @@ class HolidayUseCaseTest {
             createHoliday(commonDate, "New Year GB"),
             createHoliday(LocalDate.of(2025, 1, 3), "GB Only")
         };
-        when(apiClient.fetchHolidaysByCountry(year, countryCode1)).thenReturn(nlHolidays);
-        when(apiClient.fetchHolidaysByCountry(year, countryCode2)).thenReturn(gbHolidays);
+        when(apiClient.fetchHolidaysByCountryAsync(year, countryCode1)).thenReturn(CompletableFuture.completedFuture(nlHolidays));
+        when(apiClient.fetchHolidaysByCountryAsync(year, countryCode2)).thenReturn(CompletableFuture.completedFuture(gbHolidays));
 
         // Act
         List<CommonHolidayInfo> result = holidayUseCase.getCommonHolidays(year, countryCode1, countryCode2);
@@ -109,18 +229,193 @@ class HolidayUseCaseTest {
         assertEquals("New Year GB", commonHoliday.localName2());
     }
 
+    @Test
+    void getSharedHolidays_ShouldFetchEveryCountryOnceAndKeepDatesSharedByEnoughCountries() throws HolidayApiException {
+        // Arrange
+        int year = 2025;
+        LocalDate newYear = LocalDate.of(2025, 1, 1);
+        LocalDate christmas = LocalDate.of(2025, 12, 25);
+        when(apiClient.fetchHolidaysByCountryAsync(year, "NL")).thenReturn(CompletableFuture.completedFuture(
+            new Holiday[] { createHoliday(newYear, "Nieuwjaarsdag"), createHoliday(christmas, "Kerstmis") }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "DE")).thenReturn(CompletableFuture.completedFuture(
+            new Holiday[] { createHoliday(newYear, "Neujahr") }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "GB")).thenReturn(CompletableFuture.completedFuture(
+            new Holiday[] { createHoliday(newYear, "New Year's Day"), createHoliday(christmas, "Christmas Day") }));
+
+        // Act
+        List<SharedHolidayInfo> result = holidayUseCase.getSharedHolidays(year, List.of("NL", "DE", "GB", "NL"), 2);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(newYear, result.get(0).date());
+        assertEquals(List.of("NL", "DE", "GB"), List.copyOf(result.get(0).localNames().keySet()));
+        assertEquals(christmas, result.get(1).date());
+        assertEquals(Map.of("NL", "Kerstmis", "GB", "Christmas Day"), result.get(1).localNames());
+        verify(apiClient, times(1)).fetchHolidaysByCountryAsync(year, "NL");
+    }
+
+    @Test
+    void getSharedHolidays_ShouldFail_WhenCountryFails() throws HolidayApiException {
+        // Arrange
+        int year = 2025;
+        when(apiClient.fetchHolidaysByCountryAsync(year, "NL")).thenReturn(CompletableFuture.completedFuture(
+            new Holiday[] { createHoliday(LocalDate.of(2025, 1, 1), "Nieuwjaarsdag") }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "XX")).thenReturn(CompletableFuture.failedFuture(
+            new HolidayApiException("Unknown country", new RuntimeException())));
+
+        // Act & Assert
+        assertThrows(HolidayApiException.class,
+            () -> holidayUseCase.getSharedHolidays(year, List.of("NL", "XX"), 2));
+    }
+
+    @Test
+    void executeBatch_ShouldFetchSharedCalendarsOnceAndReturnResultsInOrder() throws HolidayApiException {
+        // Arrange
+        int year = 2025;
+        LocalDate newYear = LocalDate.of(2025, 1, 1);  // Wednesday
+        when(apiClient.fetchHolidaysByCountryAsync(year, "NL")).thenReturn(CompletableFuture.completedFuture(
+            new Holiday[] { createHoliday(newYear, "Nieuwjaarsdag") }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "GB")).thenReturn(CompletableFuture.completedFuture(
+            new Holiday[] { createHoliday(newYear, "New Year's Day") }));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "XX")).thenReturn(CompletableFuture.failedFuture(
+            new HolidayApiException("Unknown country", new RuntimeException())));
+
+        // Act
+        List<HolidayQueryResult> results = holidayUseCase.executeBatch(List.of(
+            new HolidayQuery.NotOnWeekends(year, List.of("NL", "GB"), null),
+            new HolidayQuery.Common(year, "NL", "XX"),
+            new HolidayQuery.Common(year, "NL", "GB")));
+
+        // Assert
+        assertEquals(3, results.size());
+        assertEquals(Map.of("NL", 1L, "GB", 1L), results.get(0).result());
+        assertNotNull(results.get(1).error());
+        assertEquals(List.of(new CommonHolidayInfo(newYear, "Nieuwjaarsdag", "New Year's Day")),
+            results.get(2).result());
+        verify(apiClient, times(1)).fetchHolidaysByCountryAsync(year, "NL");
+        verify(apiClient, times(1)).fetchHolidaysByCountryAsync(year, "GB");
+    }
+
+    @Test
+    void executeBatch_ShouldTimeOutQueriesNotFinishedByTheBatchDeadline() throws HolidayApiException {
+        // Arrange: one deadline for the batch, far shorter than the per-request timeout
+        HolidayUseCaseProperties properties = new HolidayUseCaseProperties();
+        properties.setBatchTimeout(Duration.ofMillis(200));
+        holidayUseCase = new HolidayUseCaseImpl(apiClient, executor, properties);
+        int year = 2025;
+        when(apiClient.fetchHolidaysByCountryAsync(eq(year), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+        when(apiClient.fetchHolidaysByCountryAsync(year, "GB")).thenReturn(new CompletableFuture<>());
+        long start = System.nanoTime();
+
+        // Act
+        List<HolidayQueryResult> results = holidayUseCase.executeBatch(List.of(
+            new HolidayQuery.Common(year, "NL", "GB"),
+            new HolidayQuery.Common(year, "NL", "DE")));
+
+        // Assert
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertTrue(results.get(0).error().startsWith("Timed out"));
+        assertTrue(results.get(1).error().startsWith("Timed out"));
+    }
+
     @Test
     void getMostRecentHolidays_ShouldHandleApiException() throws HolidayApiException {
         // Arrange
         String countryCode = "NL";
-        when(apiClient.fetchHolidaysByCountry(anyInt(), eq(countryCode)))
-            .thenThrow(new HolidayApiException("API is not reachable", new RuntimeException()));
+        when(apiClient.fetchHolidaysByCountryAsync(anyInt(), eq(countryCode)))
+            .thenReturn(CompletableFuture.failedFuture(
+                new HolidayApiException("API is not reachable", new RuntimeException())));
 
-        // Act & Assert
-        assertDoesNotThrow(() -> {
-            List<Holiday> result = holidayUseCase.getMostRecentHolidays(countryCode, 3);
-            assertTrue(result.isEmpty());
-        });
+        // Act
+        HolidayResult<List<Holiday>> result =
+            assertDoesNotThrow(() -> holidayUseCase.getMostRecentHolidays(countryCode, 3));
+
+        // Assert
+        assertTrue(result.partial());
+        assertTrue(result.value().isEmpty());
+    }
+
+    @Test
+    void getMostRecentHolidays_ShouldCollectAcrossYearsNewestFirst() throws HolidayApiException {
+        // Arrange
+        String countryCode = "NL";
+        int currentYear = LocalDate.now().getYear();
+        for (int year = currentYear; year > currentYear - 5; year--) {
+            Holiday[] holidays = {
+                createHoliday(LocalDate.of(year - 1, 12, 25), "Christmas " + (year - 1)),
+                createHoliday(LocalDate.of(year - 1, 1, 1), "New Year " + (year - 1))
+            };
+            lenient().when(apiClient.fetchHolidaysByCountryAsync(year - 1, countryCode))
+                .thenReturn(CompletableFuture.completedFuture(holidays));
+        }
+        when(apiClient.fetchHolidaysByCountryAsync(currentYear, countryCode))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+
+        // Act
+        List<Holiday> result = holidayUseCase.getMostRecentHolidays(countryCode, 3).value();
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(LocalDate.of(currentYear - 1, 12, 25), result.get(0).getDate());
+        assertEquals(LocalDate.of(currentYear - 1, 1, 1), result.get(1).getDate());
+        assertEquals(LocalDate.of(currentYear - 2, 12, 25), result.get(2).getDate());
+    }
+
+    @Test
+    void getMostRecentHolidays_ShouldLeaveUnconsumedPrefetchesRunning() throws HolidayApiException {
+        // Arrange: the empty current year makes the walk prefetch the two years before it
+        int currentYear = LocalDate.now().getYear();
+        CompletableFuture<Holiday[]> unconsumed = new CompletableFuture<>();
+        when(apiClient.fetchHolidaysByCountryAsync(currentYear, "NL"))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+        when(apiClient.fetchHolidaysByCountryAsync(currentYear - 1, "NL"))
+            .thenReturn(CompletableFuture.completedFuture(
+                new Holiday[] { createHoliday(LocalDate.of(currentYear - 1, 12, 25), "Christmas") }));
+        when(apiClient.fetchHolidaysByCountryAsync(currentYear - 2, "NL")).thenReturn(unconsumed);
+
+        // Act
+        List<Holiday> result = holidayUseCase.getMostRecentHolidays("NL", 1).value();
+
+        // Assert
+        assertEquals(1, result.size());
+        assertFalse(unconsumed.isCancelled());
+    }
+
+    @Test
+    void getMostRecentHolidays_ShouldNotHandOutTheGatewaysHolidays() throws HolidayApiException {
+        // Arrange
+        int currentYear = LocalDate.now().getYear();
+        Holiday[] holidays = { createHoliday(LocalDate.of(currentYear - 1, 12, 25), "Christmas") };
+        lenient().when(apiClient.fetchHolidaysByCountryAsync(anyInt(), eq("NL")))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+        when(apiClient.fetchHolidaysByCountryAsync(currentYear - 1, "NL"))
+            .thenReturn(CompletableFuture.completedFuture(holidays));
+
+        // Act
+        List<Holiday> result = holidayUseCase.getMostRecentHolidays("NL", 1).value();
+        result.get(0).setName("Changed");
+
+        // Assert
+        assertEquals("Christmas", holidays[0].getName());
+    }
+
+    @Test
+    void getMostRecentHolidays_ShouldStopAfterLookbackLimit_WhenCalendarsAreEmpty() throws HolidayApiException {
+        // Arrange
+        HolidayUseCaseProperties properties = new HolidayUseCaseProperties();
+        properties.setMaxLookbackYears(10);
+        holidayUseCase = new HolidayUseCaseImpl(apiClient, executor, properties);
+        when(apiClient.fetchHolidaysByCountryAsync(anyInt(), eq("NL")))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+
+        // Act
+        HolidayResult<List<Holiday>> result = holidayUseCase.getMostRecentHolidays("NL", 3);
+
+        // Assert: running out of years is a complete answer, unlike a failing upstream
+        assertFalse(result.partial());
+        assertTrue(result.value().isEmpty());
+        verify(apiClient, times(10)).fetchHolidaysByCountryAsync(anyInt(), eq("NL"));
     }
 
     private Holiday createHoliday(LocalDate date, String name) {
@@ -0,0 +1,74 @@
+package com.accenture.holidays.application.usecase;
+
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+import com.accenture.holidays.domain.usecase.HolidayUseCase;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObservedHolidayUseCaseTest {
+
+    @Mock
+    private HolidayUseCase delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    private ObservedHolidayUseCase holidayUseCase;
+
+    @BeforeEach
+    void setUp() {
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        holidayUseCase = new ObservedHolidayUseCase(delegate, observationRegistry);
+    }
+
+    @Test
+    void getCommonHolidays_ShouldTimeCallsByMethodAndOutcome() {
+        // Arrange
+        when(delegate.getCommonHolidays(2025, "NL", "DE"))
+            .thenReturn(List.of())
+            .thenThrow(new UpstreamUnavailableException("Holiday API circuit is open", null));
+
+        // Act
+        holidayUseCase.getCommonHolidays(2025, "NL", "DE");
+        assertThrows(UpstreamUnavailableException.class, () -> holidayUseCase.getCommonHolidays(2025, "NL", "DE"));
+
+        // Assert
+        assertEquals(1, meterRegistry.get(ObservedHolidayUseCase.OBSERVATION_NAME)
+            .tags("method", "getCommonHolidays", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ObservedHolidayUseCase.OBSERVATION_NAME)
+            .tags("method", "getCommonHolidays", "outcome", "unavailable").timer().count());
+    }
+
+    @Test
+    void getHolidaysNotOnWeekends_ShouldRunDelegateWithinTheObservation() {
+        // Arrange
+        AtomicReference<Observation> current = new AtomicReference<>();
+        when(delegate.getHolidaysNotOnWeekends(2025, List.of("NL"))).thenAnswer(invocation -> {
+            current.set(observationRegistry.getCurrentObservation());
+            return null;
+        });
+
+        // Act
+        holidayUseCase.getHolidaysNotOnWeekends(2025, List.of("NL"));
+
+        // Assert
+        assertNotNull(current.get());
+        assertEquals(ObservedHolidayUseCase.OBSERVATION_NAME, current.get().getContext().getName());
+        assertNull(observationRegistry.getCurrentObservation());
+    }
+}
@@ -4,16 +4,34 @@ import com.accenture.holidays.domain.gateway.HolidayApiClient;
 import com.accenture.holidays.domain.exception.HolidayApiException;
 import com.accenture.holidays.domain.model.Holiday;
 import com.accenture.holidays.infrastructure.adapter.HolidayApiClientImpl;
+import com.accenture.holidays.infrastructure.adapter.HolidayJsonDecoder;
 import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -27,12 +45,18 @@ class HolidayApiClientTest {
     @Mock
     private HolidayApiProperties apiProperties;
 
+    @Mock
+    private HttpClient httpClient;
+
     private HolidayApiClient apiClient;
 
     @BeforeEach
     void setUp() {
         when(apiProperties.getBaseUrl()).thenReturn("https://test-api.example.com");
-        apiClient = new HolidayApiClientImpl(restTemplate, apiProperties);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        HolidayJsonDecoder decoder = new HolidayJsonDecoder(objectMapper.getFactory(),
+            EnumSet.allOf(HolidayApiProperties.HolidayField.class));
+        apiClient = new HolidayApiClientImpl(restTemplate, apiProperties, httpClient, decoder);
     }
 
     @Test
@@ -44,7 +68,8 @@ class HolidayApiClientTest {
             createHoliday("2025-01-01", "New Year's Day"),
             createHoliday("2025-12-25", "Christmas Day")
         };
-        when(restTemplate.getForObject(anyString(), eq(Holiday[].class)))
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(RequestCallback.class),
+            ArgumentMatchers.<ResponseExtractor<Holiday[]>>any()))
             .thenReturn(expectedHolidays);
 
         // Act
@@ -55,9 +80,11 @@ class HolidayApiClientTest {
         assertEquals(2, result.length);
         assertEquals("New Year's Day", result[0].getName());
         assertEquals("Christmas Day", result[1].getName());
-        verify(restTemplate).getForObject(
-            "https://test-api.example.com/PublicHolidays/2025/NL",
-            Holiday[].class
+        verify(restTemplate).execute(
+            eq(URI.create("https://test-api.example.com/PublicHolidays/2025/NL")),
+            eq(HttpMethod.GET),
+            any(RequestCallback.class),
+            ArgumentMatchers.<ResponseExtractor<Holiday[]>>any()
         );
     }
 
@@ -66,7 +93,8 @@ class HolidayApiClientTest {
         // Arrange
         int year = 2025;
         String countryCode = "NL";
-        when(restTemplate.getForObject(anyString(), eq(Holiday[].class)))
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(RequestCallback.class),
+            ArgumentMatchers.<ResponseExtractor<Holiday[]>>any()))
             .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
 
 
@@ -76,6 +104,77 @@ class HolidayApiClientTest {
         );
     }
 
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldReturnHolidays() {
+        // Arrange
+        String body = "[{\"date\":\"2025-01-01\",\"localName\":\"Nieuwjaarsdag\",\"name\":\"New Year's Day\","
+            + "\"countryCode\":\"NL\",\"fixed\":false,\"global\":true,\"counties\":null,"
+            + "\"launchYear\":null,\"types\":[\"Public\"]}]";
+        stubHttpResponse(200, body);
+
+        // Act
+        Holiday[] result = apiClient.fetchHolidaysByCountryAsync(2025, "NL").join();
+
+        // Assert
+        assertEquals(1, result.length);
+        assertEquals("New Year's Day", result[0].getName());
+        assertEquals(java.time.LocalDate.of(2025, 1, 1), result[0].getDate());
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldFailWithHolidayApiException_WhenApiCallFails() {
+        // Arrange
+        stubHttpResponse(400, "");
+
+        // Act
+        CompletableFuture<Holiday[]> result = apiClient.fetchHolidaysByCountryAsync(2025, "NL");
+
+        // Assert
+        CompletionException ex = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(HolidayApiException.class, ex.getCause());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fetchHolidaysByCountryAsync_ShouldReuseBody_WhenNotModified() {
+        // Arrange
+        when(apiProperties.getHttp()).thenReturn(new HolidayApiProperties.Http());
+        String body = "[{\"date\":\"2025-01-01\",\"localName\":\"Nieuwjaarsdag\",\"name\":\"New Year's Day\"}]";
+        HttpResponse<byte[]> ok = createResponse(200, body, Map.of("ETag", List.of("\"v1\"")));
+        HttpResponse<byte[]> notModified = createResponse(304, "", Map.of());
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(CompletableFuture.completedFuture(ok), CompletableFuture.completedFuture(notModified));
+        Holiday[] first = apiClient.fetchHolidaysByCountryAsync(2025, "NL").join();
+
+        // Act
+        Holiday[] second = apiClient.fetchHolidaysByCountryAsync(2025, "NL").join();
+
+        // Assert
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+        ArgumentCaptor<HttpRequest> requests = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(2)).sendAsync(requests.capture(), any(HttpResponse.BodyHandler.class));
+        assertTrue(requests.getAllValues().get(0).headers().firstValue("If-None-Match").isEmpty());
+        assertEquals("\"v1\"", requests.getAllValues().get(1).headers().firstValue("If-None-Match").orElseThrow());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubHttpResponse(int status, String body) {
+        when(apiProperties.getHttp()).thenReturn(new HolidayApiProperties.Http());
+        HttpResponse<byte[]> response = createResponse(status, body, Map.of());
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<byte[]> createResponse(int status, String body, Map<String, List<String>> headers) {
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        lenient().when(response.body()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        lenient().when(response.headers()).thenReturn(java.net.http.HttpHeaders.of(headers, (name, value) -> true));
+        return response;
+    }
+
     private Holiday createHoliday(String date, String name) {
         Holiday holiday = new Holiday();
         holiday.setDate(java.time.LocalDate.parse(date));
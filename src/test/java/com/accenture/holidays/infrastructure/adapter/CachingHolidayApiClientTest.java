@@ -0,0 +1,199 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingHolidayApiClientTest {
+
+    @Mock
+    private HolidayApiClient delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CachingHolidayApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        HolidayApiProperties.Cache properties = new HolidayApiProperties.Cache();
+        properties.setPastYearTtl(Duration.ofDays(7));
+        properties.setCurrentYearTtl(Duration.ofHours(1));
+        properties.getRefresh().setCurrentYear(Duration.ofMinutes(45));
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+        apiClient = new CachingHolidayApiClient(delegate, properties, nanos::get, clock);
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldServeRepeatedCallsFromCache() {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2024, 1, 1), "New Year") };
+        when(delegate.fetchHolidaysByCountry(2024, "NL")).thenReturn(holidays);
+
+        // Act
+        Holiday[] first = apiClient.fetchHolidaysByCountry(2024, "NL");
+        Holiday[] second = apiClient.fetchHolidaysByCountry(2024, "NL");
+
+        // Assert
+        assertArrayEquals(holidays, first);
+        assertSame(first, second);
+        verify(delegate, times(1)).fetchHolidaysByCountry(2024, "NL");
+        assertEquals(1, apiClient.stats().hitCount());
+        assertEquals(1, apiClient.stats().missCount());
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldKeepItsOwnCopyOfTheCalendar() {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2024, 1, 1), "New Year") };
+        when(delegate.fetchHolidaysByCountryAsync(2024, "NL")).thenReturn(CompletableFuture.completedFuture(holidays));
+        apiClient.fetchHolidaysByCountryAsync(2024, "NL").join();
+
+        // Act: whoever else holds the delegate's calendar changes it
+        holidays[0].setName("Changed");
+        holidays[0] = null;
+        Holiday[] cached = apiClient.fetchHolidaysByCountry(2024, "NL");
+
+        // Assert
+        assertEquals("New Year", cached[0].getName());
+        verify(delegate, never()).fetchHolidaysByCountry(anyInt(), anyString());
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldCacheCalendarWhoseCallerCancelled() {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2023, 1, 1), "New Year") };
+        CompletableFuture<Holiday[]> upstream = new CompletableFuture<>();
+        when(delegate.fetchHolidaysByCountryAsync(2023, "NL")).thenReturn(upstream);
+        CompletableFuture<Holiday[]> prefetched = apiClient.fetchHolidaysByCountryAsync(2023, "NL");
+
+        // Act: the caller no longer needs the year, the upstream call completes anyway
+        prefetched.cancel(false);
+        upstream.complete(holidays);
+        Holiday[] cached = apiClient.fetchHolidaysByCountryAsync(2023, "NL").join();
+
+        // Assert
+        assertArrayEquals(holidays, cached);
+        verify(delegate, times(1)).fetchHolidaysByCountryAsync(2023, "NL");
+        assertEquals(1, apiClient.stats().hitCount());
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldExpireCurrentYearBeforePastYear() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(anyInt(), eq("NL")))
+            .thenReturn(new Holiday[] { createHoliday(LocalDate.of(2025, 1, 1), "New Year") });
+        apiClient.fetchHolidaysByCountry(2024, "NL");
+        apiClient.fetchHolidaysByCountry(2025, "NL");
+
+        // Act
+        nanos.addAndGet(Duration.ofHours(2).toNanos());
+        apiClient.fetchHolidaysByCountry(2024, "NL");
+        apiClient.fetchHolidaysByCountry(2025, "NL");
+
+        // Assert
+        verify(delegate, times(1)).fetchHolidaysByCountry(2024, "NL");
+        verify(delegate, times(2)).fetchHolidaysByCountry(2025, "NL");
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldNotCacheFailures() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(2024, "NL"))
+            .thenThrow(new HolidayApiException("API is not reachable", new RuntimeException()));
+
+        // Act & Assert
+        assertThrows(HolidayApiException.class, () -> apiClient.fetchHolidaysByCountry(2024, "NL"));
+        assertThrows(HolidayApiException.class, () -> apiClient.fetchHolidaysByCountry(2024, "NL"));
+        verify(delegate, times(2)).fetchHolidaysByCountry(2024, "NL");
+    }
+
+    @Test
+    void refreshDue_ShouldReplaceReadCalendarInTheBackground() {
+        // Arrange
+        Holiday[] stale = { createHoliday(LocalDate.of(2025, 1, 1), "New Year") };
+        Holiday[] fresh = { createHoliday(LocalDate.of(2025, 1, 1), "Nieuwjaarsdag") };
+        CompletableFuture<Holiday[]> refresh = new CompletableFuture<>();
+        when(delegate.fetchHolidaysByCountry(2025, "NL")).thenReturn(stale);
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL")).thenReturn(refresh);
+        apiClient.fetchHolidaysByCountry(2025, "NL");
+        apiClient.fetchHolidaysByCountry(2025, "NL");
+        nanos.addAndGet(Duration.ofMinutes(50).toNanos());
+        apiClient.refreshDue();
+
+        // Act: the refresh is still in flight, callers get the cached calendar
+        Holiday[] whileRefreshing = apiClient.fetchHolidaysByCountry(2025, "NL");
+        refresh.complete(fresh);
+        Holiday[] afterRefresh = apiClient.fetchHolidaysByCountry(2025, "NL");
+
+        // Assert
+        assertArrayEquals(stale, whileRefreshing);
+        assertArrayEquals(fresh, afterRefresh);
+        assertEquals(1, apiClient.refreshCount());
+        verify(delegate, times(1)).fetchHolidaysByCountry(2025, "NL");
+    }
+
+    @Test
+    void refreshDue_ShouldKeepCachedCalendarWhenRefreshFails() {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2025, 1, 1), "New Year") };
+        when(delegate.fetchHolidaysByCountry(2025, "NL")).thenReturn(holidays);
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL")).thenReturn(CompletableFuture.failedFuture(
+            new HolidayApiException("API is not reachable", new RuntimeException())));
+        apiClient.fetchHolidaysByCountry(2025, "NL");
+        apiClient.fetchHolidaysByCountry(2025, "NL");
+
+        // Act: the failed refresh resets the expiry, so the calendar outlives its original TTL
+        nanos.addAndGet(Duration.ofMinutes(50).toNanos());
+        apiClient.refreshDue();
+        nanos.addAndGet(Duration.ofMinutes(50).toNanos());
+        Holiday[] result = apiClient.fetchHolidaysByCountry(2025, "NL");
+
+        // Assert
+        assertArrayEquals(holidays, result);
+        assertEquals(1, apiClient.refreshFailureCount());
+        assertEquals(0, apiClient.refreshCount());
+        verify(delegate, times(1)).fetchHolidaysByCountry(2025, "NL");
+    }
+
+    @Test
+    void refreshDue_ShouldSkipCalendarsNotReadSinceStored() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(2025, "NL"))
+            .thenReturn(new Holiday[] { createHoliday(LocalDate.of(2025, 1, 1), "New Year") });
+        apiClient.fetchHolidaysByCountry(2025, "NL");
+
+        // Act
+        nanos.addAndGet(Duration.ofMinutes(50).toNanos());
+        apiClient.refreshDue();
+
+        // Assert
+        verify(delegate, never()).fetchHolidaysByCountryAsync(anyInt(), anyString());
+    }
+
+    private Holiday createHoliday(LocalDate date, String name) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setLocalName(name);
+        holiday.setCountryCode("NL");
+        return holiday;
+    }
+}
@@ -0,0 +1,128 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingHolidayApiClientTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private HolidayApiClient delegate;
+
+    private CoalescingHolidayApiClient apiClient;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = new CoalescingHolidayApiClient(delegate);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldShareOneUpstreamCallBetweenConcurrentCallers() throws Exception {
+        // Arrange
+        Holiday[] holidays = new Holiday[0];
+        when(delegate.fetchHolidaysByCountry(2025, "NL")).thenAnswer(invocation -> {
+            awaitOtherCallers();
+            return holidays;
+        });
+
+        // Act
+        List<Future<Holiday[]>> results = submitConcurrentCalls();
+
+        // Assert
+        for (Future<Holiday[]> result : results) {
+            assertSame(holidays, result.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).fetchHolidaysByCountry(2025, "NL");
+        assertEquals(0, apiClient.inFlightCount());
+        assertEquals(CALLERS - 1, apiClient.coalescedCount());
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldShareFailureBetweenConcurrentCallers() throws Exception {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(2025, "NL")).thenAnswer(invocation -> {
+            awaitOtherCallers();
+            throw new HolidayApiException("API is not reachable", new RuntimeException());
+        });
+
+        // Act
+        List<Future<Holiday[]>> results = submitConcurrentCalls();
+
+        // Assert
+        for (Future<Holiday[]> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(HolidayApiException.class, ex.getCause());
+        }
+        verify(delegate, times(1)).fetchHolidaysByCountry(2025, "NL");
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldShareInFlightCall() {
+        // Arrange
+        Holiday[] holidays = new Holiday[0];
+        CompletableFuture<Holiday[]> upstream = new CompletableFuture<>();
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL")).thenReturn(upstream);
+
+        // Act
+        CompletableFuture<Holiday[]> first = apiClient.fetchHolidaysByCountryAsync(2025, "NL");
+        CompletableFuture<Holiday[]> second = apiClient.fetchHolidaysByCountryAsync(2025, "NL");
+        upstream.complete(holidays);
+
+        // Assert
+        assertSame(holidays, first.join());
+        assertSame(holidays, second.join());
+        verify(delegate, times(1)).fetchHolidaysByCountryAsync(2025, "NL");
+        assertEquals(0, apiClient.inFlightCount());
+    }
+
+    private List<Future<Holiday[]>> submitConcurrentCalls() {
+        List<Future<Holiday[]>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> apiClient.fetchHolidaysByCountry(2025, "NL")));
+        }
+        return results;
+    }
+
+    /**
+     * Keeps the upstream call in flight until every other caller has joined it, so none of them can
+     * arrive after it completed and start a second one.
+     */
+    private void awaitOtherCallers() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (apiClient.coalescedCount() < CALLERS - 1) {
+            if (System.nanoTime() > deadline) {
+                fail("Only " + apiClient.coalescedCount() + " callers joined the upstream call");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayJsonDecoderTest {
+
+    private static final String CALENDAR = "[{\"date\":\"2025-04-21\",\"localName\":\"Ostermontag\","
+        + "\"name\":\"Easter Monday\",\"countryCode\":\"DE\",\"fixed\":false,\"global\":false,"
+        + "\"counties\":[\"DE-BW\",\"DE-BY\"],\"launchYear\":1642,\"types\":[\"Public\"],\"extra\":{\"a\":[1]}},"
+        + "{\"date\":\"2025-12-25\",\"localName\":\"Weihnachtstag\",\"name\":\"Christmas Day\","
+        + "\"countryCode\":\"DE\",\"fixed\":true,\"global\":true,\"counties\":null,"
+        + "\"launchYear\":null,\"types\":[\"Public\"]}]";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void decode_ShouldReadAllConfiguredFieldsFromTheStream() throws Exception {
+        // Arrange
+        HolidayJsonDecoder decoder = new HolidayJsonDecoder(jsonFactory, EnumSet.allOf(HolidayField.class));
+
+        // Act
+        Holiday[] holidays = decoder.decode(new ByteArrayInputStream(CALENDAR.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(2, holidays.length);
+        Holiday easterMonday = holidays[0];
+        assertEquals(LocalDate.of(2025, 4, 21), easterMonday.getDate());
+        assertEquals("Ostermontag", easterMonday.getLocalName());
+        assertEquals("Easter Monday", easterMonday.getName());
+        assertEquals("DE", easterMonday.getCountryCode());
+        assertFalse(easterMonday.isGlobal());
+        assertArrayEquals(new String[]{"DE-BW", "DE-BY"}, easterMonday.getCounties());
+        assertEquals(1642, easterMonday.getLaunchYear());
+        assertArrayEquals(new String[]{"Public"}, easterMonday.getTypes());
+        assertTrue(holidays[1].isFixed());
+        assertNull(holidays[1].getCounties());
+    }
+
+    @Test
+    void decode_ShouldSkipFieldsThatAreNotConfigured() throws Exception {
+        // Arrange
+        HolidayJsonDecoder decoder = new HolidayJsonDecoder(jsonFactory, EnumSet.of(HolidayField.GLOBAL));
+
+        // Act
+        Holiday[] holidays = decoder.decode(CALENDAR.getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals(LocalDate.of(2025, 12, 25), holidays[1].getDate());
+        assertEquals("Christmas Day", holidays[1].getName());
+        assertTrue(holidays[1].isGlobal());
+        assertNull(holidays[0].getCountryCode());
+        assertNull(holidays[0].getCounties());
+        assertNull(holidays[0].getTypes());
+        assertEquals(0, holidays[0].getLaunchYear());
+    }
+
+    @Test
+    void decode_ShouldShareRepeatedStringsAcrossCalendars() throws Exception {
+        // Arrange
+        HolidayJsonDecoder decoder = new HolidayJsonDecoder(jsonFactory, EnumSet.allOf(HolidayField.class));
+        byte[] body = CALENDAR.getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        Holiday[] first = decoder.decode(body);
+        Holiday[] second = decoder.decode(body);
+
+        // Assert
+        assertSame(first[0].getName(), second[0].getName());
+        assertSame(first[0].getCountryCode(), second[1].getCountryCode());
+        assertSame(first[0].getTypes()[0], second[1].getTypes()[0]);
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCalendars() {
+        // Arrange
+        HolidayJsonDecoder decoder = new HolidayJsonDecoder(jsonFactory, EnumSet.allOf(HolidayField.class));
+
+        // Act & Assert
+        assertThrows(JsonParseException.class, () ->
+            decoder.decode("[{\"date\":\"2025-13-01\"}]".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(JsonParseException.class, () ->
+            decoder.decode("{\"date\":\"2025-01-01\"}".getBytes(StandardCharsets.UTF_8)));
+        assertNull(assertDoesNotThrow(() -> decoder.decode(new byte[0])));
+    }
+}
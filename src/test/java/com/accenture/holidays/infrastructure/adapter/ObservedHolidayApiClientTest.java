@@ -0,0 +1,73 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObservedHolidayApiClientTest {
+
+    @Mock
+    private HolidayApiClient delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ObservedHolidayApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        apiClient = new ObservedHolidayApiClient(delegate, observationRegistry, List.of("NL"));
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldTimeFetchesByOutcomeAndBoundedCountry() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL"))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+        when(delegate.fetchHolidaysByCountryAsync(2025, "XX"))
+            .thenReturn(CompletableFuture.failedFuture(new UpstreamUnavailableException("Holiday API circuit is open", null)));
+
+        // Act
+        apiClient.fetchHolidaysByCountryAsync(2025, "NL").join();
+        CompletableFuture<Holiday[]> failed = apiClient.fetchHolidaysByCountryAsync(2025, "XX");
+
+        // Assert
+        assertThrows(CompletionException.class, failed::join);
+        assertEquals(1, meterRegistry.get(ObservedHolidayApiClient.OBSERVATION_NAME)
+            .tags("country", "NL", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ObservedHolidayApiClient.OBSERVATION_NAME)
+            .tags("country", ObservedHolidayApiClient.OTHER_COUNTRY, "outcome", "unavailable").timer().count());
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldTagClientErrors() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(2025, "NL")).thenThrow(new HolidayApiException(
+            "Failed to fetch holidays for country: NL", new HttpClientErrorException(HttpStatus.NOT_FOUND)));
+
+        // Act & Assert
+        assertThrows(HolidayApiException.class, () -> apiClient.fetchHolidaysByCountry(2025, "NL"));
+        assertEquals(1, meterRegistry.get(ObservedHolidayApiClient.OBSERVATION_NAME)
+            .tags("country", "NL", "outcome", "client_error").timer().count());
+    }
+}
@@ -0,0 +1,182 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import com.accenture.holidays.infrastructure.persistence.CalendarStore;
+import com.accenture.holidays.infrastructure.persistence.FileCalendarStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PersistentHolidayApiClientTest {
+
+    private static final Set<HolidayField> ALL_FIELDS = EnumSet.allOf(HolidayField.class);
+
+    @Mock
+    private HolidayApiClient delegate;
+
+    @TempDir
+    private Path directory;
+
+    private ObjectMapper objectMapper;
+
+    private PersistentHolidayApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        apiClient = createClient(false);
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldServeStoredPastYearWithoutUpstream() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(2024, "NL"))
+            .thenReturn(new Holiday[] { createHoliday(LocalDate.of(2024, 1, 1), "New Year") });
+        apiClient.fetchHolidaysByCountry(2024, "NL");
+
+        // Act: a new instance simulates a restart with the same directory
+        Holiday[] result = createClient(true).fetchHolidaysByCountry(2024, "NL");
+
+        // Assert
+        assertEquals(1, result.length);
+        assertEquals("New Year", result[0].getName());
+        verify(delegate, times(1)).fetchHolidaysByCountry(2024, "NL");
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldRefetchStoredPastYear_WhenMoreFieldsAreDecodedNow() {
+        // Arrange: stored while only the global flag was decoded
+        Holiday lean = createHoliday(LocalDate.of(2024, 1, 1), "New Year");
+        Holiday full = createHoliday(LocalDate.of(2024, 1, 1), "New Year");
+        full.setTypes(new String[] { "Public" });
+        when(delegate.fetchHolidaysByCountry(2024, "NL"))
+            .thenReturn(new Holiday[] { lean })
+            .thenReturn(new Holiday[] { full });
+        createClient(false, EnumSet.of(HolidayField.GLOBAL)).fetchHolidaysByCountry(2024, "NL");
+
+        // Act: restarts after decoded-fields was widened
+        Holiday[] refetched = createClient(true).fetchHolidaysByCountry(2024, "NL");
+        Holiday[] stored = createClient(true).fetchHolidaysByCountry(2024, "NL");
+
+        // Assert
+        assertArrayEquals(new String[] { "Public" }, refetched[0].getTypes());
+        assertArrayEquals(new String[] { "Public" }, stored[0].getTypes());
+        verify(delegate, times(2)).fetchHolidaysByCountry(2024, "NL");
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldRefetchAndStoreStoredPastYear_WhenBypassingStore() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(2024, "NL"))
+            .thenReturn(new Holiday[] { createHoliday(LocalDate.of(2024, 1, 1), "New Year") });
+        apiClient.fetchHolidaysByCountry(2024, "NL");
+        when(delegate.fetchHolidaysByCountryAsync(2024, "NL")).thenReturn(CompletableFuture.completedFuture(
+            new Holiday[] { createHoliday(LocalDate.of(2024, 1, 1), "New Year's Day") }));
+
+        // Act
+        Holiday[] refreshed = PersistentHolidayApiClient.bypassingStore(
+            () -> apiClient.fetchHolidaysByCountryAsync(2024, "NL")).join();
+        Holiday[] result = createClient(true).fetchHolidaysByCountry(2024, "NL");
+
+        // Assert
+        assertEquals("New Year's Day", refreshed[0].getName());
+        assertEquals("New Year's Day", result[0].getName());
+        verify(delegate, times(1)).fetchHolidaysByCountry(2024, "NL");
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldFallBackToStoredCalendar_WhenUpstreamFails() {
+        // Arrange
+        // Stored with fewer fields than decoded now, which is still better than failing
+        new FileCalendarStore(directory, objectMapper, false).save(new CalendarKey(2025, "NL"),
+            new Holiday[] { createHoliday(LocalDate.of(2025, 1, 1), "New Year") }, Set.of());
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL")).thenReturn(CompletableFuture.failedFuture(
+            new HolidayApiException("API is not reachable", new RuntimeException())));
+
+        // Act
+        Holiday[] result = apiClient.fetchHolidaysByCountryAsync(2025, "NL").join();
+
+        // Assert
+        assertEquals(1, result.length);
+        assertEquals(LocalDate.of(2025, 1, 1), result[0].getDate());
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldRethrow_WhenUpstreamFailsAndNothingIsStored() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountry(2025, "NL"))
+            .thenThrow(new HolidayApiException("API is not reachable", new RuntimeException()));
+
+        // Act & Assert
+        assertThrows(HolidayApiException.class, () -> apiClient.fetchHolidaysByCountry(2025, "NL"));
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldReturnBeforeAndDespiteAFailingWrite() {
+        // Arrange
+        CalendarStore store = mock(CalendarStore.class);
+        doThrow(new UncheckedIOException(new IOException("Disk full"))).when(store).save(any(), any(), any());
+        List<Runnable> writes = new ArrayList<>();
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+        PersistentHolidayApiClient client =
+            new PersistentHolidayApiClient(delegate, store, ALL_FIELDS, writes::add, clock);
+        Holiday[] holidays = { createHoliday(LocalDate.of(2025, 1, 1), "New Year") };
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL")).thenReturn(CompletableFuture.completedFuture(holidays));
+
+        // Act
+        Holiday[] result = client.fetchHolidaysByCountryAsync(2025, "NL").join();
+
+        // Assert: the write was only handed to the writer, and failing there does not surface
+        assertSame(holidays, result);
+        verify(store, never()).save(any(), any(), any());
+        assertEquals(1, writes.size());
+        assertDoesNotThrow(() -> writes.get(0).run());
+        verify(store).save(new CalendarKey(2025, "NL"), holidays, ALL_FIELDS);
+    }
+
+    private PersistentHolidayApiClient createClient(boolean preload) {
+        return createClient(preload, ALL_FIELDS);
+    }
+
+    private PersistentHolidayApiClient createClient(boolean preload, Set<HolidayField> decodedFields) {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+        return new PersistentHolidayApiClient(delegate, new FileCalendarStore(directory, objectMapper, preload),
+            decodedFields, Runnable::run, clock);
+    }
+
+    private Holiday createHoliday(LocalDate date, String name) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setLocalName(name);
+        holiday.setCountryCode("NL");
+        return holiday;
+    }
+}
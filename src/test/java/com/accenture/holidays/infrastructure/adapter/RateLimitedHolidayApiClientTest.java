@@ -0,0 +1,85 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitedHolidayApiClientTest {
+
+    @Mock
+    private HolidayApiClient delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitedHolidayApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        HolidayApiProperties.RateLimit properties = new HolidayApiProperties.RateLimit();
+        properties.setPermitsPerSecond(10);
+        properties.setBurst(1);
+        properties.setMaxWait(Duration.ofMillis(500));
+        properties.setBackgroundMaxWait(Duration.ofSeconds(2));
+        apiClient = new RateLimitedHolidayApiClient(delegate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiClient.close();
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldRejectCallsBeyondMaxWait() {
+        // Arrange: the burst allows one call, the next five queue for 500ms of refill
+        when(delegate.fetchHolidaysByCountryAsync(anyInt(), eq("NL")))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+        for (int i = 0; i < 6; i++) {
+            apiClient.fetchHolidaysByCountryAsync(2025 - i, "NL");
+        }
+
+        // Act & Assert
+        assertThrows(UpstreamUnavailableException.class, () -> apiClient.fetchHolidaysByCountry(2025, "DE"));
+        verify(delegate, never()).fetchHolidaysByCountry(2025, "DE");
+        assertEquals(1, meterRegistry.get("holiday.upstream.limiter.rejected")
+            .tag("priority", "interactive").counter().count());
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldServeInteractiveCallsBeforeBackgroundCalls() {
+        // Arrange
+        List<String> started = new CopyOnWriteArrayList<>();
+        when(delegate.fetchHolidaysByCountryAsync(anyInt(), anyString())).thenAnswer(invocation -> {
+            started.add(invocation.getArgument(1));
+            return CompletableFuture.completedFuture(new Holiday[0]);
+        });
+        apiClient.fetchHolidaysByCountryAsync(2025, "NL").join();
+
+        // Act: the background call queues first, the interactive one overtakes it
+        CompletableFuture<Holiday[]> background =
+            UpstreamPriority.background(() -> apiClient.fetchHolidaysByCountryAsync(2025, "DE"));
+        CompletableFuture<Holiday[]> interactive = apiClient.fetchHolidaysByCountryAsync(2025, "GB");
+        CompletableFuture.allOf(background, interactive).join();
+
+        // Assert
+        assertEquals(List.of("NL", "GB", "DE"), started);
+        assertEquals(2, meterRegistry.get("holiday.upstream.limiter.wait")
+            .tag("priority", "interactive").timer().count());
+    }
+}
@@ -0,0 +1,190 @@
+package com.accenture.holidays.infrastructure.adapter;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.exception.UpstreamUnavailableException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientHolidayApiClientTest {
+
+    @Mock
+    private HolidayApiClient delegate;
+
+    private ResilientHolidayApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        HolidayApiProperties.Resilience properties = new HolidayApiProperties.Resilience();
+        properties.getRetry().setMaxAttempts(3);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getCircuitBreaker().setWaitInOpenState(Duration.ofMinutes(1));
+        apiClient = new ResilientHolidayApiClient(delegate, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiClient.close();
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldRetryServerErrors() {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2025, 1, 1), "New Year") };
+        when(delegate.fetchHolidaysByCountry(2025, "NL"))
+            .thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))
+            .thenReturn(holidays);
+
+        // Act
+        Holiday[] result = apiClient.fetchHolidaysByCountry(2025, "NL");
+
+        // Assert
+        assertSame(holidays, result);
+        verify(delegate, times(2)).fetchHolidaysByCountry(2025, "NL");
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldNotRetryClientErrors() {
+        // Arrange
+        HolidayApiException notFound = new HolidayApiException("Failed to fetch holidays for country: XX", null);
+        when(delegate.fetchHolidaysByCountry(2025, "XX")).thenThrow(notFound);
+
+        // Act
+        HolidayApiException thrown =
+            assertThrows(HolidayApiException.class, () -> apiClient.fetchHolidaysByCountry(2025, "XX"));
+
+        // Assert
+        assertSame(notFound, thrown);
+        verify(delegate, times(1)).fetchHolidaysByCountry(2025, "XX");
+        assertEquals(CircuitBreaker.State.CLOSED, apiClient.circuitState());
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldFailFast_WhenCircuitIsOpen() {
+        // Arrange: three failed attempts of the first call and one of the second fill the window
+        when(delegate.fetchHolidaysByCountry(2025, "NL"))
+            .thenThrow(new ResourceAccessException("Read timed out", new IOException()));
+        assertThrows(UpstreamUnavailableException.class, () -> apiClient.fetchHolidaysByCountry(2025, "NL"));
+        assertThrows(UpstreamUnavailableException.class, () -> apiClient.fetchHolidaysByCountry(2025, "NL"));
+
+        // Act
+        UpstreamUnavailableException thrown =
+            assertThrows(UpstreamUnavailableException.class, () -> apiClient.fetchHolidaysByCountry(2025, "NL"));
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, apiClient.circuitState());
+        assertEquals("Holiday API circuit is open", thrown.getMessage());
+        verify(delegate, times(4)).fetchHolidaysByCountry(2025, "NL");
+    }
+
+    @Test
+    void fetchHolidaysByCountry_ShouldNotCountRateLimiterRejectionsTowardsTheCircuit() {
+        // Arrange: counted as successes, the rejections would keep the failure rate at a third
+        HolidayApiProperties.Resilience properties = new HolidayApiProperties.Resilience();
+        properties.getRetry().setMaxAttempts(1);
+        properties.getCircuitBreaker().setSlidingWindowSize(10);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(2);
+        UpstreamUnavailableException rejected =
+            new UpstreamUnavailableException("Upstream request budget exhausted", null);
+        when(delegate.fetchHolidaysByCountry(2025, "NL"))
+            .thenThrow(rejected, rejected, rejected, rejected)
+            .thenThrow(new ResourceAccessException("Read timed out", new IOException()));
+
+        try (ResilientHolidayApiClient client = new ResilientHolidayApiClient(delegate, properties)) {
+            // Act
+            for (int i = 0; i < 6; i++) {
+                assertThrows(UpstreamUnavailableException.class, () -> client.fetchHolidaysByCountry(2025, "NL"));
+            }
+
+            // Assert
+            assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+        }
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldReportExhaustedRetriesAsUnavailable() {
+        // Arrange
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL"))
+            .thenReturn(CompletableFuture.failedFuture(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+
+        // Act
+        CompletionException thrown =
+            assertThrows(CompletionException.class, () -> apiClient.fetchHolidaysByCountryAsync(2025, "NL").join());
+
+        // Assert
+        assertInstanceOf(UpstreamUnavailableException.class, thrown.getCause());
+        verify(delegate, times(3)).fetchHolidaysByCountryAsync(2025, "NL");
+    }
+
+    @Test
+    void fetchAvailableCountryCodes_ShouldRetryServerErrors() {
+        // Arrange
+        when(delegate.fetchAvailableCountryCodes())
+            .thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))
+            .thenReturn(List.of("NL"));
+
+        // Act
+        List<String> result = apiClient.fetchAvailableCountryCodes();
+
+        // Assert
+        assertEquals(List.of("NL"), result);
+        verify(delegate, times(2)).fetchAvailableCountryCodes();
+    }
+
+    @Test
+    void fetchHolidaysByCountryAsync_ShouldKeepBackgroundPriorityOnRetries() {
+        // Arrange
+        HolidayApiProperties.RateLimit rateLimit = new HolidayApiProperties.RateLimit();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        when(delegate.fetchHolidaysByCountryAsync(2025, "NL"))
+            .thenReturn(CompletableFuture.failedFuture(new HttpServerErrorException(HttpStatus.BAD_GATEWAY)))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+
+        // Act: the retry is made from the retry scheduler's thread
+        try (RateLimitedHolidayApiClient limited = new RateLimitedHolidayApiClient(delegate, rateLimit, meterRegistry);
+             ResilientHolidayApiClient resilient = new ResilientHolidayApiClient(limited,
+                 new HolidayApiProperties.Resilience())) {
+            UpstreamPriority.background(() -> resilient.fetchHolidaysByCountryAsync(2025, "NL")).join();
+        }
+
+        // Assert
+        verify(delegate, times(2)).fetchHolidaysByCountryAsync(2025, "NL");
+        assertEquals(2, meterRegistry.get("holiday.upstream.limiter.wait")
+            .tag("priority", "background").timer().count());
+        assertEquals(0, meterRegistry.get("holiday.upstream.limiter.wait")
+            .tag("priority", "interactive").timer().count());
+    }
+
+    private Holiday createHoliday(LocalDate date, String name) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setLocalName(name);
+        holiday.setCountryCode("NL");
+        return holiday;
+    }
+}
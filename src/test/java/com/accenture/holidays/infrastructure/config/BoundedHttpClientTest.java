@@ -0,0 +1,75 @@
+package com.accenture.holidays.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedHttpClientTest {
+
+    private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("https://test-api.example.com")).build();
+
+    @Mock
+    private HttpClient delegate;
+
+    private BoundedHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = new BoundedHttpClient(delegate, 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendAsync_ShouldHoldRequestsOverTheLimitUntilASlotFrees() {
+        // Arrange
+        CompletableFuture<HttpResponse<byte[]>> first = new CompletableFuture<>();
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        doReturn(first, CompletableFuture.completedFuture(response))
+            .when(delegate).sendAsync(eq(REQUEST), any(), any());
+        httpClient.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofByteArray());
+
+        // Act
+        CompletableFuture<HttpResponse<byte[]>> second = httpClient.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofByteArray());
+
+        // Assert
+        verify(delegate, times(1)).sendAsync(eq(REQUEST), any(), any());
+        assertEquals(1, httpClient.waitingCount());
+        first.complete(response);
+        assertSame(response, second.join());
+        verify(delegate, times(2)).sendAsync(eq(REQUEST), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendAsync_ShouldNotSendRequestsCancelledWhileWaiting() {
+        // Arrange
+        CompletableFuture<HttpResponse<byte[]>> first = new CompletableFuture<>();
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        doReturn(first, CompletableFuture.completedFuture(response))
+            .when(delegate).sendAsync(eq(REQUEST), any(), any());
+        httpClient.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<HttpResponse<byte[]>> cancelled = httpClient.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<HttpResponse<byte[]>> third = httpClient.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofByteArray());
+
+        // Act
+        cancelled.cancel(false);
+        first.complete(response);
+
+        // Assert: the freed slot went to the third request
+        assertSame(response, third.join());
+        verify(delegate, times(2)).sendAsync(eq(REQUEST), any(), any());
+        assertEquals(0, httpClient.waitingCount());
+    }
+}
@@ -0,0 +1,54 @@
+package com.accenture.holidays.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayExecutorFactoryTest {
+
+    @Test
+    void create_ShouldRunOverflowOnCallerAndExportRejectionCount() throws InterruptedException {
+        // Arrange
+        HolidayApiProperties.Executor properties = new HolidayApiProperties.Executor();
+        properties.setCorePoolSize(1);
+        properties.setMaxPoolSize(1);
+        properties.setQueueCapacity(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExecutorService executor = HolidayExecutorFactory.create(properties, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> overflowThread = new AtomicReference<>();
+
+        try {
+            // Act
+            executor.execute(() -> awaitQuietly(release)); // occupies the only thread
+            executor.execute(() -> awaitQuietly(release)); // fills the queue
+            executor.execute(() -> overflowThread.set(Thread.currentThread()));
+
+            // Assert
+            assertSame(Thread.currentThread(), overflowThread.get());
+            HolidayExecutorFactory.CountingCallerRunsPolicy policy = (HolidayExecutorFactory.CountingCallerRunsPolicy)
+                    ((ThreadPoolExecutor) executor).getRejectedExecutionHandler();
+            assertEquals(1, policy.getRejectedCount());
+            assertEquals(1, meterRegistry.get(HolidayExecutorFactory.CALLER_RUNS_METRIC).functionCounter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
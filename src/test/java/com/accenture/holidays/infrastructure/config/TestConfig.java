@@ -1,15 +1,27 @@
 package com.accenture.holidays.infrastructure.config;
 
 import com.accenture.holidays.domain.model.Holiday;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.mockito.Mockito;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @TestConfiguration
 public class TestConfig {
@@ -18,31 +30,79 @@ public class TestConfig {
     @Primary
     public RestTemplate testRestTemplate() {
         RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
-        
-        Holiday[] mockHolidays = {
-            createHoliday(LocalDate.of(2025, 1, 1), "New Year's Day"),
-            createHoliday(LocalDate.of(2025, 12, 25), "Christmas Day")
-        };
-        
-        Mockito.when(restTemplate.getForObject(
-            Mockito.contains("/PublicHolidays/2025/NL"),
-            Mockito.eq(Holiday[].class)
+
+        Holiday[] mockHolidays = createMockHolidays();
+
+        Mockito.when(restTemplate.execute(
+            Mockito.argThat((URI uri) -> uri != null && uri.toString().contains("/PublicHolidays/2025/NL")),
+            Mockito.eq(HttpMethod.GET),
+            Mockito.any(),
+            Mockito.<ResponseExtractor<Holiday[]>>any()
         )).thenReturn(mockHolidays);
 
-        Mockito.when(restTemplate.getForObject(
-            Mockito.contains("/PublicHolidays/2025/GB"),
-            Mockito.eq(Holiday[].class)
+        Mockito.when(restTemplate.execute(
+            Mockito.argThat((URI uri) -> uri != null && uri.toString().contains("/PublicHolidays/2025/GB")),
+            Mockito.eq(HttpMethod.GET),
+            Mockito.any(),
+            Mockito.<ResponseExtractor<Holiday[]>>any()
         )).thenReturn(mockHolidays);
 
         // Mock error response for invalid requests
-        Mockito.when(restTemplate.getForObject(
-            Mockito.contains("/PublicHolidays/1999/"),
-            Mockito.eq(Holiday[].class)
+        Mockito.when(restTemplate.execute(
+            Mockito.argThat((URI uri) -> uri != null && uri.toString().contains("/PublicHolidays/1999/")),
+            Mockito.eq(HttpMethod.GET),
+            Mockito.any(),
+            Mockito.<ResponseExtractor<Holiday[]>>any()
         )).thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
 
         return restTemplate;
     }
 
+    @Bean
+    @Primary
+    @SuppressWarnings("unchecked")
+    public HttpClient testHttpClient() throws JsonProcessingException {
+        HttpClient httpClient = Mockito.mock(HttpClient.class);
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        HttpResponse<byte[]> holidaysResponse =
+            createResponse(200, objectMapper.writeValueAsBytes(createMockHolidays()));
+        HttpResponse<byte[]> badRequestResponse = createResponse(400, new byte[0]);
+        HttpResponse<byte[]> noContentResponse = createResponse(204, new byte[0]);
+
+        // Same responses as the RestTemplate mock, for the non-blocking path
+        Mockito.when(httpClient.sendAsync(Mockito.any(HttpRequest.class), Mockito.any(HttpResponse.BodyHandler.class)))
+            .thenAnswer(invocation -> {
+                String path = invocation.getArgument(0, HttpRequest.class).uri().getPath();
+                if (path.contains("/PublicHolidays/2025/NL") || path.contains("/PublicHolidays/2025/GB")) {
+                    return CompletableFuture.completedFuture(holidaysResponse);
+                }
+                if (path.contains("/PublicHolidays/1999/")) {
+                    return CompletableFuture.completedFuture(badRequestResponse);
+                }
+                return CompletableFuture.completedFuture(noContentResponse);
+            });
+
+        return httpClient;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<byte[]> createResponse(int status, byte[] body) {
+        HttpResponse<byte[]> response = Mockito.mock(HttpResponse.class);
+        Mockito.when(response.statusCode()).thenReturn(status);
+        Mockito.when(response.body()).thenReturn(body);
+        Mockito.when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+        return response;
+    }
+
+    private Holiday[] createMockHolidays() {
+        return new Holiday[] {
+            createHoliday(LocalDate.of(2025, 1, 1), "New Year's Day"),
+            createHoliday(LocalDate.of(2025, 12, 25), "Christmas Day")
+        };
+    }
+
     private Holiday createHoliday(LocalDate date, String name) {
         Holiday holiday = new Holiday();
         holiday.setDate(date);
@@ -51,4 +111,4 @@ public class TestConfig {
         holiday.setCountryCode("NL");
         return holiday;
     }
-} 
\ No newline at end of file
+}
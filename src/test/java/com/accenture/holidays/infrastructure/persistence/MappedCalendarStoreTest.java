@@ -0,0 +1,178 @@
+package com.accenture.holidays.infrastructure.persistence;
+
+import com.accenture.holidays.domain.model.CalendarKey;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties.HolidayField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCalendarStoreTest {
+
+    private static final CalendarKey KEY = new CalendarKey(2024, "DE");
+    private static final Set<HolidayField> ALL_FIELDS = EnumSet.allOf(HolidayField.class);
+
+    @TempDir
+    private Path directory;
+
+    private MappedCalendarStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MappedCalendarStore(directory, false);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void load_ShouldRoundTripEveryField() {
+        // Arrange
+        Holiday regional = createHoliday(LocalDate.of(2024, 1, 6), "Heilige Drei Könige");
+        regional.setCounties(new String[] { "DE-BW", "DE-BY" });
+        regional.setTypes(new String[] { "Public" });
+        regional.setLaunchYear(1967);
+        regional.setFixed(true);
+        Holiday national = createHoliday(LocalDate.of(2024, 12, 25), "Weihnachtstag");
+        national.setGlobal(true);
+
+        // Act
+        store.save(KEY, new Holiday[] { regional, national }, ALL_FIELDS);
+        Holiday[] result = store.load(KEY).orElseThrow().holidays();
+
+        // Assert
+        assertArrayEquals(new Holiday[] { regional, national }, result);
+        assertNull(result[1].getCounties());
+        assertSame(result[0].getCountryCode(), result[1].getCountryCode());
+    }
+
+    @Test
+    void load_ShouldReturnTheFieldsTheCalendarWasDecodedWithAfterReopen() throws IOException {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2024, 1, 1), "Neujahr") };
+        store.save(KEY, holidays, EnumSet.of(HolidayField.GLOBAL));
+        store.save(KEY, holidays, ALL_FIELDS);
+        store.save(new CalendarKey(2024, "NL"), holidays, Set.of());
+        store.close();
+
+        // Act
+        store = new MappedCalendarStore(directory, false);
+
+        // Assert: the same calendar with more fields decoded is a new record, not an unchanged one
+        assertEquals(ALL_FIELDS, store.load(KEY).orElseThrow().decodedFields());
+        assertTrue(store.load(new CalendarKey(2024, "NL")).orElseThrow().decodedFields().isEmpty());
+    }
+
+    @Test
+    void load_ShouldReturnLatestCalendarAfterReopen() throws IOException {
+        // Arrange
+        store.save(KEY, new Holiday[] { createHoliday(LocalDate.of(2024, 1, 1), "Neujahr") }, ALL_FIELDS);
+        store.save(KEY, new Holiday[] { createHoliday(LocalDate.of(2024, 5, 1), "Tag der Arbeit") }, ALL_FIELDS);
+        store.close();
+
+        // Act: a new instance simulates a restart with the same directory
+        store = new MappedCalendarStore(directory, true);
+        Optional<StoredCalendar> result = store.load(KEY);
+
+        // Assert
+        assertEquals("Tag der Arbeit", result.orElseThrow().holidays()[0].getName());
+        assertTrue(store.load(new CalendarKey(2024, "NL")).isEmpty());
+    }
+
+    @Test
+    void save_ShouldNotAppendUnchangedCalendar() throws IOException {
+        // Arrange
+        Holiday[] holidays = { createHoliday(LocalDate.of(2024, 1, 1), "Neujahr") };
+        store.save(KEY, holidays, ALL_FIELDS);
+        long size = Files.size(directory.resolve(MappedCalendarStore.FILE_NAME));
+
+        // Act
+        store.save(KEY, holidays, ALL_FIELDS);
+
+        // Assert
+        assertEquals(size, Files.size(directory.resolve(MappedCalendarStore.FILE_NAME)));
+    }
+
+    @Test
+    void open_ShouldDropIncompleteTrailingRecord() throws IOException {
+        // Arrange
+        store.save(KEY, new Holiday[] { createHoliday(LocalDate.of(2024, 1, 1), "Neujahr") }, ALL_FIELDS);
+        store.close();
+        Files.write(directory.resolve(MappedCalendarStore.FILE_NAME), new byte[] { 0, 0, 7 },
+            StandardOpenOption.APPEND);
+
+        // Act
+        store = new MappedCalendarStore(directory, false);
+
+        // Assert
+        assertEquals("Neujahr", store.load(KEY).orElseThrow().holidays()[0].getName());
+    }
+
+    @Test
+    void save_ShouldStoreStringsUpToTheLengthLimitAndSkipLongerOnes() throws IOException {
+        // Arrange
+        String longest = "x".repeat(0xFFFF);
+        CalendarKey tooLong = new CalendarKey(2025, "DE");
+        Holiday[] tooLongCalendar = { createHoliday(LocalDate.of(2025, 1, 1), longest + "x") };
+
+        // Act
+        store.save(KEY, new Holiday[] { createHoliday(LocalDate.of(2024, 1, 1), longest) }, ALL_FIELDS);
+        store.save(tooLong, tooLongCalendar, ALL_FIELDS);
+        store.close();
+        store = new MappedCalendarStore(directory, false);
+
+        // Assert
+        assertEquals(longest, store.load(KEY).orElseThrow().holidays()[0].getName());
+        assertTrue(store.load(tooLong).isEmpty());
+    }
+
+    @Test
+    void save_ShouldSkipCalendarWithLaunchYearOutsideTheFormat() {
+        // Arrange
+        Holiday holiday = createHoliday(LocalDate.of(2024, 1, 1), "Neujahr");
+        holiday.setLaunchYear(Short.MAX_VALUE + 1);
+
+        // Act
+        store.save(KEY, new Holiday[] { holiday }, ALL_FIELDS);
+
+        // Assert
+        assertTrue(store.load(KEY).isEmpty());
+    }
+
+    @Test
+    void load_ShouldReadCalendarsAppendedAfterOpening() {
+        // Arrange
+        store.save(KEY, new Holiday[] { createHoliday(LocalDate.of(2024, 1, 1), "Neujahr") }, ALL_FIELDS);
+        CalendarKey next = new CalendarKey(2025, "DE");
+
+        // Act
+        store.save(next, new Holiday[] { createHoliday(LocalDate.of(2025, 1, 1), "Neujahr 2025") }, ALL_FIELDS);
+
+        // Assert: each append maps its own record, earlier ones stay readable
+        assertEquals("Neujahr", store.load(KEY).orElseThrow().holidays()[0].getName());
+        assertEquals("Neujahr 2025", store.load(next).orElseThrow().holidays()[0].getName());
+    }
+
+    private Holiday createHoliday(LocalDate date, String name) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setLocalName(name);
+        holiday.setCountryCode("DE");
+        return holiday;
+    }
+}
@@ -0,0 +1,99 @@
+package com.accenture.holidays.infrastructure.warmup;
+
+import com.accenture.holidays.domain.exception.HolidayApiException;
+import com.accenture.holidays.domain.gateway.HolidayApiClient;
+import com.accenture.holidays.domain.model.Holiday;
+import com.accenture.holidays.infrastructure.adapter.UpstreamPriority;
+import com.accenture.holidays.infrastructure.config.HolidayApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarWarmUpTest {
+
+    @Mock
+    private HolidayApiClient holidayApiClient;
+
+    private final HolidayApiProperties.WarmUp properties = new HolidayApiProperties.WarmUp();
+
+    private CalendarWarmUp warmUp;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setCountries(List.of("NL", "DE"));
+        properties.setYearsBack(1);
+        properties.setYearsAhead(1);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+        warmUp = new CalendarWarmUp(holidayApiClient, properties, clock);
+    }
+
+    @Test
+    void warmUp_ShouldFetchEveryCountryInTheYearWindow() {
+        // Arrange
+        when(holidayApiClient.fetchHolidaysByCountryAsync(anyInt(), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+        when(holidayApiClient.fetchHolidaysByCountryAsync(2026, "DE"))
+            .thenReturn(CompletableFuture.failedFuture(new HolidayApiException("API is not reachable", null)));
+
+        // Act
+        warmUp.warmUp();
+
+        // Assert
+        for (int year = 2024; year <= 2026; year++) {
+            verify(holidayApiClient).fetchHolidaysByCountryAsync(year, "NL");
+            verify(holidayApiClient).fetchHolidaysByCountryAsync(year, "DE");
+        }
+        Health health = warmUp.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(6, health.getDetails().get("total"));
+        assertEquals(5, health.getDetails().get("warmed"));
+        assertEquals(1, health.getDetails().get("failed"));
+    }
+
+    @Test
+    void health_ShouldBeOutOfServiceUntilWarmedUp() {
+        // Act
+        Health health = warmUp.health();
+
+        // Assert
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+    }
+
+    @Test
+    void warmUp_ShouldUseAvailableCountries_WhenAllCountriesEnabled() {
+        // Arrange
+        properties.setAllCountries(true);
+        properties.setYearsBack(0);
+        properties.setYearsAhead(0);
+        when(holidayApiClient.fetchAvailableCountryCodes()).thenAnswer(invocation -> {
+            assertEquals(UpstreamPriority.BACKGROUND, UpstreamPriority.current());
+            return List.of("GB");
+        });
+        when(holidayApiClient.fetchHolidaysByCountryAsync(2025, "GB"))
+            .thenReturn(CompletableFuture.completedFuture(new Holiday[0]));
+
+        // Act
+        warmUp.warmUp();
+
+        // Assert: the country list comes through the decorated gateway, at background priority
+        verify(holidayApiClient).fetchAvailableCountryCodes();
+        verify(holidayApiClient).fetchHolidaysByCountryAsync(2025, "GB");
+        verifyNoMoreInteractions(holidayApiClient);
+        assertEquals(Status.UP, warmUp.health().getStatus());
+    }
+}